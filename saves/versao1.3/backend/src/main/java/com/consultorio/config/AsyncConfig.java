@@ -0,0 +1,10 @@
+package com.consultorio.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableAsync;
+
+// Usa o executor padrão do Spring Boot (applicationTaskExecutor) para os métodos @Async
+@Configuration
+@EnableAsync
+public class AsyncConfig {
+}
@@ -0,0 +1,50 @@
+package com.consultorio.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+// Pool de conexões explícito: tamanho calculado pela lei de Little a partir do pico de requisições
+// e do tempo médio com conexão (métrica consultorio.db.conexao.uso), e métricas por endpoint.
+// Qualquer spring.datasource.hikari.* definido em application.properties prevalece sobre o cálculo.
+@Slf4j
+@Configuration
+public class DataSourceConfig {
+
+    static final int TAMANHO_MINIMO_POOL = 2;
+
+    @Bean
+    public DataSource dataSource(DataSourceProperties properties,
+                                 Environment environment,
+                                 MeterRegistry meterRegistry,
+                                 @Value("${consultorio.datasource.pico-requisicoes-por-segundo}") double picoPorSegundo,
+                                 @Value("${consultorio.datasource.tempo-medio-conexao}") Duration tempoMedioConexao,
+                                 @Value("${consultorio.datasource.folga-conexoes}") int folga) {
+        int tamanho = tamanhoPool(picoPorSegundo, tempoMedioConexao, folga);
+
+        HikariDataSource pool = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        pool.setMaximumPoolSize(tamanho);
+        pool.setMinimumIdle(tamanho);
+        Binder.get(environment).bind("spring.datasource.hikari", Bindable.ofInstance(pool));
+
+        log.info("Pool de conexões '{}' com {} conexões ({} req/s x {} ms + {} de folga)",
+                pool.getPoolName(), pool.getMaximumPoolSize(), picoPorSegundo, tempoMedioConexao.toMillis(), folga);
+        return new DataSourceMedido(pool, meterRegistry);
+    }
+
+    // Conexões ocupadas em média no pico = requisições/s x segundos com conexão por requisição
+    static int tamanhoPool(double picoPorSegundo, Duration tempoMedioConexao, int folga) {
+        double ocupadas = picoPorSegundo * tempoMedioConexao.toNanos() / 1_000_000_000d;
+        return Math.max(TAMANHO_MINIMO_POOL, (int) Math.ceil(ocupadas) + folga);
+    }
+}
@@ -0,0 +1,79 @@
+package com.consultorio.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.servlet.HandlerMapping;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+// Tempo para obter cada conexão do pool e tempo até devolvê-la, por endpoint ("GET /pacientes/{id}").
+// Fora de uma requisição (eventos @Async, inicialização, tarefas) a tag é FORA_DE_REQUISICAO.
+public class DataSourceMedido extends DelegatingDataSource {
+
+    public static final String METRICA_AQUISICAO = "consultorio.db.conexao.aquisicao";
+    public static final String METRICA_USO = "consultorio.db.conexao.uso";
+    public static final String FORA_DE_REQUISICAO = "fora-de-requisicao";
+
+    private final MeterRegistry meterRegistry;
+
+    public DataSourceMedido(DataSource pool, MeterRegistry meterRegistry) {
+        super(pool);
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        String endpoint = endpointAtual();
+        long inicio = System.nanoTime();
+        Connection conexao = super.getConnection();
+        long obtidaEm = System.nanoTime();
+        timer(METRICA_AQUISICAO, endpoint).record(obtidaEm - inicio, TimeUnit.NANOSECONDS);
+        return medirUso(conexao, endpoint, obtidaEm);
+    }
+
+    // Só o primeiro close conta: Hibernate e Spring podem fechar a mesma conexão mais de uma vez
+    private Connection medirUso(Connection conexao, String endpoint, long obtidaEm) {
+        AtomicBoolean devolvida = new AtomicBoolean();
+        return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class<?>[]{Connection.class},
+                (proxy, metodo, argumentos) -> {
+                    if ("close".equals(metodo.getName()) && devolvida.compareAndSet(false, true)) {
+                        timer(METRICA_USO, endpoint).record(System.nanoTime() - obtidaEm, TimeUnit.NANOSECONDS);
+                    }
+                    try {
+                        return metodo.invoke(conexao, argumentos);
+                    } catch (InvocationTargetException e) {
+                        throw e.getTargetException();
+                    }
+                });
+    }
+
+    private Timer timer(String nome, String endpoint) {
+        return Timer.builder(nome)
+                .tag("endpoint", endpoint)
+                .register(meterRegistry);
+    }
+
+    // Padrão da rota (não a URL): o número de tags fica limitado ao número de endpoints
+    static String endpointAtual() {
+        RequestAttributes atributos = RequestContextHolder.getRequestAttributes();
+        if (atributos instanceof ServletRequestAttributes servlet) {
+            HttpServletRequest requisicao = servlet.getRequest();
+            Object padrao = requisicao.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            if (padrao != null) {
+                return requisicao.getMethod() + " " + padrao;
+            }
+        }
+        return FORA_DE_REQUISICAO;
+    }
+}
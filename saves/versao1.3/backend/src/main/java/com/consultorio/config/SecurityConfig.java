@@ -23,8 +23,9 @@ public class SecurityConfig {
                 .cors(cors -> cors.configurationSource(corsConfigurationSource))
                 .csrf(csrf -> csrf.disable())
                 .authorizeHttpRequests(authz -> authz
-                        .requestMatchers("/agendamentos/**", "/dentistas/**", "/pacientes/**").permitAll()
+                        .requestMatchers("/agendamentos/**", "/dentistas/**", "/pacientes/**", "/planos-tratamento/**").permitAll()
                         .requestMatchers("/swagger-ui/**", "/v3/api-docs/**").permitAll()
+                        .requestMatchers("/actuator/health", "/actuator/metrics/**").permitAll()
                         .anyRequest().authenticated()
                 );
 
@@ -7,7 +7,11 @@ import org.hibernate.annotations.CreationTimestamp;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "agendamentos")
+@Table(name = "agendamentos", indexes = {
+        @Index(name = "idx_agendamentos_dentista_data_hora", columnList = "dentista_id, data_hora"),
+        @Index(name = "idx_agendamentos_paciente_data_hora", columnList = "paciente_id, data_hora"),
+        @Index(name = "idx_agendamentos_status_data_hora", columnList = "status, data_hora")
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -15,8 +19,17 @@ import java.time.LocalDateTime;
 @Builder
 public class Agenda {
 
+    // Índice único parcial (migração V2): um agendamento não cancelado por dentista e horário
+    public static final String UK_DENTISTA_DATA_HORA_ATIVO = "uk_agendamentos_dentista_data_hora_ativo";
+
+    // Restrição de exclusão (migração V4): agendamentos vivos (AGENDADO, CONFIRMADO) do mesmo dentista
+    // não se sobrepõem; o histórico legado pode conter encaixes sobrepostos
+    public static final String EX_DENTISTA_PERIODO_ATIVO = "ex_agendamentos_dentista_periodo_ativo";
+
+    // Sequência com alocação em lote (pooled-lo) para permitir inserts em batch via JDBC
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "agendamentos_seq")
+    @SequenceGenerator(name = "agendamentos_seq", sequenceName = "agendamentos_seq", allocationSize = 50)
     private Long id;
 
     @Column(name = "paciente_id")
@@ -34,6 +47,10 @@ public class Agenda {
     @Column(name = "data_hora", nullable = false)
     private LocalDateTime dataHora;
 
+    // Fim exclusivo do atendimento; sempre no mesmo dia de dataHora
+    @Column(name = "data_hora_fim")
+    private LocalDateTime dataHoraFim;
+
     @Enumerated(EnumType.STRING)
     @Column(name = "status", nullable = false)
     private StatusAgendamento status;
@@ -2,16 +2,23 @@
 package com.consultorio.domain.agenda;
 
 import com.consultorio.domain.agenda.dto.*;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.net.URI;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.LocalTime;
 import java.util.List;
 
 @Slf4j
@@ -22,6 +29,7 @@ import java.util.List;
 public class AgendaController {
 
     private final AgendaService service;
+    private final ObjectMapper objectMapper;
 
     @PostMapping
     public ResponseEntity<AgendaResponseDTO> criar(@Valid @RequestBody AgendaCreateDTO dto) {
@@ -36,28 +44,107 @@ public class AgendaController {
         return ResponseEntity.created(location).body(response);
     }
 
+    // ========== LISTAGENS ANTIGAS (DEPRECIADAS) ==========
+    // Sem cursor, devolvem no máximo uma página de tamanho máximo, mais recentes primeiro, e nunca a tabela
+    // inteira. Quando há mais itens, X-Proximo-Cursor continua a leitura na rota /pagina equivalente.
+    // Removidas na versão 1.4, depois que o frontend (agendaService.ts) passar a usar as rotas /pagina.
+
+    @Deprecated(since = "1.3", forRemoval = true)
     @GetMapping
     public ResponseEntity<List<AgendaListDTO>> listar() {
-        log.info("GET /agendamentos - Listando todos os agendamentos");
-        return ResponseEntity.ok(service.listar());
+        log.info("GET /agendamentos - Listando agendamentos (rota depreciada)");
+        return listaDepreciada(FiltroAgendaDTO.todos(), "/agendamentos/pagina");
     }
 
+    @Deprecated(since = "1.3", forRemoval = true)
     @GetMapping("/dentista/{dentistaId}")
     public ResponseEntity<List<AgendaListDTO>> listarPorDentista(@PathVariable Long dentistaId) {
-        log.info("GET /agendamentos/dentista/{} - Listando por dentista", dentistaId);
-        return ResponseEntity.ok(service.listarPorDentista(dentistaId));
+        log.info("GET /agendamentos/dentista/{} - Listando por dentista (rota depreciada)", dentistaId);
+        return listaDepreciada(FiltroAgendaDTO.porDentista(dentistaId),
+                "/agendamentos/dentista/" + dentistaId + "/pagina");
     }
 
+    @Deprecated(since = "1.3", forRemoval = true)
     @GetMapping("/paciente/{pacienteId}")
     public ResponseEntity<List<AgendaListDTO>> listarPorPaciente(@PathVariable Long pacienteId) {
-        log.info("GET /agendamentos/paciente/{} - Listando por paciente", pacienteId);
-        return ResponseEntity.ok(service.listarPorPaciente(pacienteId));
+        log.info("GET /agendamentos/paciente/{} - Listando por paciente (rota depreciada)", pacienteId);
+        return listaDepreciada(FiltroAgendaDTO.porPaciente(pacienteId),
+                "/agendamentos/paciente/" + pacienteId + "/pagina");
     }
 
+    @Deprecated(since = "1.3", forRemoval = true)
     @GetMapping("/status/{status}")
     public ResponseEntity<List<AgendaListDTO>> listarPorStatus(@PathVariable Agenda.StatusAgendamento status) {
-        log.info("GET /agendamentos/status/{} - Listando por status", status);
-        return ResponseEntity.ok(service.listarPorStatus(status));
+        log.info("GET /agendamentos/status/{} - Listando por status (rota depreciada)", status);
+        return listaDepreciada(FiltroAgendaDTO.porStatus(status), "/agendamentos/status/" + status + "/pagina");
+    }
+
+    @PostMapping("/recorrentes")
+    public ResponseEntity<AgendaRecorrenteResponseDTO> criarRecorrente(
+            @Valid @RequestBody AgendaRecorrenteRequestDTO dto) {
+        log.info("POST /agendamentos/recorrentes - Criando série de {} sessões", dto.sessoes());
+        return ResponseEntity.ok(service.criarRecorrente(dto));
+    }
+
+    // ========== PAGINAÇÃO POR CURSOR ==========
+
+    @GetMapping("/pagina")
+    public ResponseEntity<AgendaPaginaDTO> listarPagina(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limite) {
+        log.info("GET /agendamentos/pagina - Listando página de agendamentos");
+        return ResponseEntity.ok(service.listarPagina(FiltroAgendaDTO.todos(), cursor, limite));
+    }
+
+    @GetMapping("/dentista/{dentistaId}/pagina")
+    public ResponseEntity<AgendaPaginaDTO> listarPaginaPorDentista(
+            @PathVariable Long dentistaId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limite) {
+        log.info("GET /agendamentos/dentista/{}/pagina - Listando página por dentista", dentistaId);
+        return ResponseEntity.ok(service.listarPagina(FiltroAgendaDTO.porDentista(dentistaId), cursor, limite));
+    }
+
+    @GetMapping("/paciente/{pacienteId}/pagina")
+    public ResponseEntity<AgendaPaginaDTO> listarPaginaPorPaciente(
+            @PathVariable Long pacienteId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limite) {
+        log.info("GET /agendamentos/paciente/{}/pagina - Listando página por paciente", pacienteId);
+        return ResponseEntity.ok(service.listarPagina(FiltroAgendaDTO.porPaciente(pacienteId), cursor, limite));
+    }
+
+    @GetMapping("/status/{status}/pagina")
+    public ResponseEntity<AgendaPaginaDTO> listarPaginaPorStatus(
+            @PathVariable Agenda.StatusAgendamento status,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limite) {
+        log.info("GET /agendamentos/status/{}/pagina - Listando página por status", status);
+        return ResponseEntity.ok(service.listarPagina(FiltroAgendaDTO.porStatus(status), cursor, limite));
+    }
+
+    // ========== STREAMING NDJSON ==========
+
+    @GetMapping(value = "/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportar(
+            @RequestParam(required = false) Long dentistaId,
+            @RequestParam(required = false) Long pacienteId,
+            @RequestParam(required = false) Agenda.StatusAgendamento status) {
+        log.info("GET /agendamentos/stream - Exportando agendamentos em NDJSON");
+        FiltroAgendaDTO filtro = new FiltroAgendaDTO(dentistaId, pacienteId, status);
+
+        StreamingResponseBody corpo = saida -> service.percorrer(filtro, agenda -> {
+            try {
+                saida.write(objectMapper.writeValueAsBytes(agenda));
+                saida.write('\n');
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(corpo);
     }
 
     @GetMapping("/{id}")
@@ -96,6 +183,13 @@ public class AgendaController {
         return ResponseEntity.ok(service.verificarDisponibilidade(dto));
     }
 
+    @PostMapping("/disponibilidade/busca")
+    public ResponseEntity<List<HorarioDisponivelDTO>> buscarHorariosDisponiveis(
+            @Valid @RequestBody BuscaDisponibilidadeRequestDTO dto) {
+        log.info("POST /agendamentos/disponibilidade/busca - Buscando horários disponíveis");
+        return ResponseEntity.ok(service.buscarHorariosDisponiveis(dto));
+    }
+
     @GetMapping("/dentista/{dentistaId}/proximo-horario")
     public ResponseEntity<ProximoHorarioResponseDTO> buscarProximoHorario(@PathVariable Long dentistaId) {
         log.info("GET /agendamentos/dentista/{}/proximo-horario - Buscando próximo horário", dentistaId);
@@ -103,6 +197,17 @@ public class AgendaController {
         return ResponseEntity.ok(response);
     }
 
+    @GetMapping("/calendario")
+    public ResponseEntity<CalendarioDTO> montarCalendario(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate dataInicio,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate dataFim,
+            @RequestParam(required = false) List<Long> dentistaIds,
+            @RequestParam(required = false) @DateTimeFormat(pattern = "HH:mm") LocalTime horaInicio,
+            @RequestParam(required = false) @DateTimeFormat(pattern = "HH:mm") LocalTime horaFim) {
+        log.info("GET /agendamentos/calendario - Calendário de {} a {}", dataInicio, dataFim);
+        return ResponseEntity.ok(service.montarCalendario(dataInicio, dataFim, dentistaIds, horaInicio, horaFim));
+    }
+
     @GetMapping("/periodo")
     public ResponseEntity<List<AgendaResponseDTO>> buscarPorPeriodo(
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime inicio,
@@ -110,4 +215,19 @@ public class AgendaController {
         log.info("GET /agendamentos/periodo - Buscando por período: {} a {}", inicio, fim);
         return ResponseEntity.ok(service.buscarPorPeriodo(inicio, fim));
     }
-}
\ No newline at end of file
+
+    // ========== MÉTODOS PRIVADOS ==========
+
+    @SuppressWarnings("removal")
+    private ResponseEntity<List<AgendaListDTO>> listaDepreciada(FiltroAgendaDTO filtro, String rotaPaginada) {
+        AgendaPaginaDTO pagina = service.listarPrimeiraPagina(filtro);
+
+        ResponseEntity.BodyBuilder resposta = ResponseEntity.ok()
+                .header("Deprecation", "true")
+                .header("Link", "<" + rotaPaginada + ">; rel=\"successor-version\"");
+        if (pagina.temMais()) {
+            resposta.header("X-Proximo-Cursor", pagina.proximoCursor());
+        }
+        return resposta.body(pagina.itens());
+    }
+}
@@ -20,6 +20,7 @@ public class AgendaConverter {
                 .dentistaId(agenda.getDentistaId())
                 .dentistaNome(agenda.getDentistaNome())
                 .dataHora(agenda.getDataHora())
+                .dataHoraFim(agenda.getDataHoraFim())
                 .status(agenda.getStatus())
                 .observacoes(agenda.getObservacoes())
                 .telefone(agenda.getTelefone())
@@ -1,14 +1,24 @@
 // AgendaRepository.java
 package com.consultorio.domain.agenda;
 
+import com.consultorio.domain.agenda.dto.CalendarioItemDTO;
+import com.consultorio.domain.agenda.dto.HorarioOcupadoDTO;
+import com.consultorio.domain.paciente.DTOs.ConsultaResumoDTO;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface AgendaRepository extends JpaRepository<Agenda, Long> {
@@ -20,40 +30,144 @@ public interface AgendaRepository extends JpaRepository<Agenda, Long> {
             @Param("inicio") LocalDateTime inicio,
             @Param("fim") LocalDateTime fim);
 
-    // Buscar por paciente
-    List<Agenda> findByPacienteIdOrderByDataHoraDesc(Long pacienteId);
-
     // Buscar por dentista
     List<Agenda> findByDentistaIdOrderByDataHoraDesc(Long dentistaId);
 
-    // Buscar por status
-    List<Agenda> findByStatusOrderByDataHoraDesc(Agenda.StatusAgendamento status);
-
     // Buscar por período
     List<Agenda> findByDataHoraBetweenOrderByDataHoraAsc(LocalDateTime inicio, LocalDateTime fim);
 
+    // ========== PAGINAÇÃO POR CHAVE (dataHora DESC, id DESC) ==========
+
+    @Query("SELECT a FROM Agenda a WHERE (a.dataHora < :dataHora OR (a.dataHora = :dataHora AND a.id < :id)) " +
+            "ORDER BY a.dataHora DESC, a.id DESC")
+    List<Agenda> findPagina(
+            @Param("dataHora") LocalDateTime dataHora,
+            @Param("id") Long id,
+            Pageable pageable);
+
+    @Query("SELECT a FROM Agenda a WHERE a.dentistaId = :dentistaId " +
+            "AND (a.dataHora < :dataHora OR (a.dataHora = :dataHora AND a.id < :id)) " +
+            "ORDER BY a.dataHora DESC, a.id DESC")
+    List<Agenda> findPaginaPorDentista(
+            @Param("dentistaId") Long dentistaId,
+            @Param("dataHora") LocalDateTime dataHora,
+            @Param("id") Long id,
+            Pageable pageable);
+
+    @Query("SELECT a FROM Agenda a WHERE a.pacienteId = :pacienteId " +
+            "AND (a.dataHora < :dataHora OR (a.dataHora = :dataHora AND a.id < :id)) " +
+            "ORDER BY a.dataHora DESC, a.id DESC")
+    List<Agenda> findPaginaPorPaciente(
+            @Param("pacienteId") Long pacienteId,
+            @Param("dataHora") LocalDateTime dataHora,
+            @Param("id") Long id,
+            Pageable pageable);
+
+    @Query("SELECT a FROM Agenda a WHERE a.status = :status " +
+            "AND (a.dataHora < :dataHora OR (a.dataHora = :dataHora AND a.id < :id)) " +
+            "ORDER BY a.dataHora DESC, a.id DESC")
+    List<Agenda> findPaginaPorStatus(
+            @Param("status") Agenda.StatusAgendamento status,
+            @Param("dataHora") LocalDateTime dataHora,
+            @Param("id") Long id,
+            Pageable pageable);
+
+    // ========== STREAMING (exige transação aberta) ==========
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT a FROM Agenda a ORDER BY a.dataHora DESC, a.id DESC")
+    Stream<Agenda> streamTodos();
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT a FROM Agenda a WHERE a.dentistaId = :dentistaId ORDER BY a.dataHora DESC, a.id DESC")
+    Stream<Agenda> streamPorDentista(@Param("dentistaId") Long dentistaId);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT a FROM Agenda a WHERE a.pacienteId = :pacienteId ORDER BY a.dataHora DESC, a.id DESC")
+    Stream<Agenda> streamPorPaciente(@Param("pacienteId") Long pacienteId);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT a FROM Agenda a WHERE a.status = :status ORDER BY a.dataHora DESC, a.id DESC")
+    Stream<Agenda> streamPorStatus(@Param("status") Agenda.StatusAgendamento status);
+
     // Buscar próximo agendamento existente
     @Query("SELECT a FROM Agenda a WHERE a.dentistaId = :dentistaId AND a.dataHora > :dataHora AND a.status != 'CANCELADO' ORDER BY a.dataHora ASC")
     List<Agenda> findProximoAgendamento(
             @Param("dentistaId") Long dentistaId,
             @Param("dataHora") LocalDateTime dataHora);
 
-    // Verificar conflito de agendamento
-    @Query("SELECT COUNT(a) > 0 FROM Agenda a WHERE a.dentistaId = :dentistaId AND a.dataHora = :dataHora AND a.status != 'CANCELADO'")
-    boolean existsByDentistaIdAndDataHoraAndStatusNotCancelado(
+    // Verificar sobreposição com [inicio, fim). Agendamentos não atravessam a meia-noite, então
+    // a.dataHora >= :inicioDia limita a varredura do índice dentista_id/data_hora ao próprio dia
+    @Query("SELECT COUNT(a) > 0 FROM Agenda a WHERE a.dentistaId = :dentistaId " +
+            "AND a.dataHora >= :inicioDia AND a.dataHora < :fim AND a.dataHoraFim > :inicio AND a.status != 'CANCELADO'")
+    boolean existsSobreposicao(
             @Param("dentistaId") Long dentistaId,
-            @Param("dataHora") LocalDateTime dataHora);
+            @Param("inicioDia") LocalDateTime inicioDia,
+            @Param("inicio") LocalDateTime inicio,
+            @Param("fim") LocalDateTime fim);
 
-    // Verificar conflito excluindo um ID específico (para updates)
-    @Query("SELECT COUNT(a) > 0 FROM Agenda a WHERE a.dentistaId = :dentistaId AND a.dataHora = :dataHora AND a.status != 'CANCELADO' AND a.id != :excludeId")
-    boolean existsByDentistaIdAndDataHoraAndStatusNotCanceladoAndIdNot(
+    // Verificar sobreposição excluindo um ID específico (para updates)
+    @Query("SELECT COUNT(a) > 0 FROM Agenda a WHERE a.dentistaId = :dentistaId " +
+            "AND a.dataHora >= :inicioDia AND a.dataHora < :fim AND a.dataHoraFim > :inicio AND a.status != 'CANCELADO' " +
+            "AND a.id != :excludeId")
+    boolean existsSobreposicaoExcluindo(
             @Param("dentistaId") Long dentistaId,
-            @Param("dataHora") LocalDateTime dataHora,
+            @Param("inicioDia") LocalDateTime inicioDia,
+            @Param("inicio") LocalDateTime inicio,
+            @Param("fim") LocalDateTime fim,
             @Param("excludeId") Long excludeId);
 
-    // Buscar horários ocupados de um dentista em um dia
-    @Query("SELECT a.dataHora FROM Agenda a WHERE a.dentistaId = :dentistaId AND CAST(a.dataHora AS localdate) = CAST(:data AS localdate) AND a.status != 'CANCELADO'")
-    List<LocalDateTime> findHorariosOcupadosNoDia(
+    // Buscar horários ocupados de vários dentistas em um período (intervalo semiaberto)
+    @Query("SELECT new com.consultorio.domain.agenda.dto.HorarioOcupadoDTO(a.dentistaId, a.dataHora, a.dataHoraFim) FROM Agenda a " +
+            "WHERE a.dentistaId IN :dentistaIds AND a.dataHora >= :inicio AND a.dataHora < :fim AND a.status != 'CANCELADO'")
+    List<HorarioOcupadoDTO> findHorariosOcupadosNoPeriodo(
+            @Param("dentistaIds") Collection<Long> dentistaIds,
+            @Param("inicio") LocalDateTime inicio,
+            @Param("fim") LocalDateTime fim);
+
+    // Calendário: projeção sem observações nem colunas de auditoria
+    @Query("SELECT new com.consultorio.domain.agenda.dto.CalendarioItemDTO(" +
+            "a.id, a.dentistaId, a.dataHora, a.dataHoraFim, a.status, a.pacienteNome) " +
+            "FROM Agenda a WHERE a.dentistaId IN :dentistaIds AND a.dataHora >= :inicio AND a.dataHora < :fim " +
+            "AND a.status != 'CANCELADO' ORDER BY a.dataHora")
+    List<CalendarioItemDTO> findCalendario(
+            @Param("dentistaIds") Collection<Long> dentistaIds,
+            @Param("inicio") LocalDateTime inicio,
+            @Param("fim") LocalDateTime fim);
+
+    // Buscar horários ocupados de um dentista em um dia (intervalo semiaberto, usa o índice dentista_id/data_hora)
+    @Query("SELECT new com.consultorio.domain.agenda.dto.HorarioOcupadoDTO(a.dentistaId, a.dataHora, a.dataHoraFim) FROM Agenda a " +
+            "WHERE a.dentistaId = :dentistaId AND a.dataHora >= :inicio AND a.dataHora < :fim AND a.status != 'CANCELADO'")
+    List<HorarioOcupadoDTO> findHorariosOcupadosNoDia(
             @Param("dentistaId") Long dentistaId,
-            @Param("data") LocalDateTime data);
+            @Param("inicio") LocalDateTime inicio,
+            @Param("fim") LocalDateTime fim);
+
+    // Histórico do paciente: agendamentos mais recentes, sem colunas de contato nem auditoria
+    @Query("SELECT new com.consultorio.domain.paciente.DTOs.ConsultaResumoDTO(" +
+            "a.id, a.dataHora, a.dataHoraFim, a.dentistaId, a.dentistaNome, a.status, a.observacoes) " +
+            "FROM Agenda a WHERE a.pacienteId = :pacienteId ORDER BY a.dataHora DESC, a.id DESC")
+    List<ConsultaResumoDTO> findConsultasResumoPorPaciente(@Param("pacienteId") Long pacienteId, Pageable pageable);
+
+    // ========== NOMES DESNORMALIZADOS ==========
+
+    @Modifying
+    @Query("UPDATE Agenda a SET a.pacienteNome = :nome WHERE a.pacienteId = :pacienteId")
+    int atualizarPacienteNome(@Param("pacienteId") Long pacienteId, @Param("nome") String nome);
+
+    @Modifying
+    @Query("UPDATE Agenda a SET a.dentistaNome = :nome WHERE a.dentistaId = :dentistaId")
+    int atualizarDentistaNome(@Param("dentistaId") Long dentistaId, @Param("nome") String nome);
 }
\ No newline at end of file
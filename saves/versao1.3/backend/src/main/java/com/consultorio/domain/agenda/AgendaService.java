@@ -6,76 +6,210 @@ import com.consultorio.domain.agenda.exception.AgendamentoNotFoundException;
 import com.consultorio.domain.agenda.exception.ConflitoAgendamentoException;
 import com.consultorio.domain.dentista.Dentista;
 import com.consultorio.domain.dentista.DentistaRepository;
-import com.consultorio.domain.dentista.exception.DentistaNotFoundException;
-import com.consultorio.domain.paciente.entity.Paciente;
-import com.consultorio.domain.paciente.erro.PacienteNotFoundException;
-import com.consultorio.domain.paciente.repository.PacienteRepository;
+import com.consultorio.domain.dentista.JornadaCompilada;
+import com.consultorio.domain.dentista.JornadaService;
+import com.consultorio.domain.paciente.event.HistoricoPacienteAlteradoEvent;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.sql.SQLException;
+import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class AgendaService {
 
+    private static final int QUANTIDADE_PADRAO_BUSCA = 10;
+    private static final int LIMITE_DIAS_BUSCA = 90;
+    private static final int JANELA_PROXIMO_HORARIO_DIAS = 14;
+    private static final int LIMITE_PADRAO_PAGINA = 50;
+    private static final int LIMITE_MAXIMO_PAGINA = 500;
+    private static final int INTERVALO_PADRAO_RECORRENCIA_DIAS = 7;
+    private static final int LIMITE_DIAS_CALENDARIO = 31;
+    private static final LocalTime INICIO_PADRAO_CALENDARIO = LocalTime.of(8, 0);
+    private static final LocalTime FIM_PADRAO_CALENDARIO = LocalTime.of(18, 0);
+    private static final int DURACAO_SLOT_CALENDARIO_MINUTOS = 30;
+    private static final char SLOT_LIVRE = '.';
+    private static final String SQLSTATE_EXCLUSION_VIOLATION = "23P01";
+
     private final AgendaRepository repository;
     private final AgendaConverter converter;
     private final DentistaRepository dentistaRepository;
-    private final PacienteRepository pacienteRepository;
+    private final NomesAgendaResolver nomesResolver;
+    private final JornadaService jornadaService;
+    private final OcupacaoAgendaIndex ocupacaoIndex;
+    private final EntityManager entityManager;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public AgendaResponseDTO criar(AgendaCreateDTO dto) {
         log.info("Criando novo agendamento para paciente: {}", dto.pacienteNome());
 
-        validarDisponibilidade(dto.dentistaId(), dto.dataHora(), null);
+        int duracao = resolverDuracao(dto.dentistaId(), dto.duracaoMinutos());
+        validarDisponibilidade(dto.dentistaId(), dto.dataHora(), duracao, null);
 
         Agenda agenda = converter.toEntity(dto);
+        agenda.setDataHoraFim(calcularFim(dto.dataHora(), duracao));
 
         Long pacienteId = normalizePacienteId(dto.pacienteId());
         agenda.setPacienteId(pacienteId);
         agenda.setPacienteNome(resolvePacienteNome(pacienteId, dto.pacienteNome()));
         agenda.setDentistaNome(resolveDentistaNome(dto.dentistaId()));
-        Agenda saved = repository.save(agenda);
+        Agenda saved = salvarComExclusividade(agenda);
+        registrarOcupacao(saved);
+        publicarAlteracaoHistorico(saved.getPacienteId());
 
         log.info("Agendamento criado com ID: {}", saved.getId());
         return converter.toResponseDTO(saved);
     }
 
-    public List<AgendaListDTO> listar() {
-        log.info("Listando todos os agendamentos");
-        return repository.findAll().stream()
-                .map(converter::toListDTO)
+    @Transactional
+    public AgendaRecorrenteResponseDTO criarRecorrente(AgendaRecorrenteRequestDTO dto) {
+        int intervalo = dto.intervaloDias() != null ? dto.intervaloDias() : INTERVALO_PADRAO_RECORRENCIA_DIAS;
+        log.info("Criando {} sessões recorrentes a cada {} dias para dentista ID: {}",
+                dto.sessoes(), intervalo, dto.dentistaId());
+
+        // Nomes resolvidos uma única vez para toda a série
+        Long pacienteId = normalizePacienteId(dto.pacienteId());
+        String pacienteNome = resolvePacienteNome(pacienteId, dto.pacienteNome());
+        String dentistaNome = resolveDentistaNome(dto.dentistaId());
+        int duracao = resolverDuracao(dto.dentistaId(), dto.duracaoMinutos());
+
+        List<LocalDateTime> horarios = new ArrayList<>();
+        for (int i = 0; i < dto.sessoes(); i++) {
+            horarios.add(dto.primeiraDataHora().plusDays((long) i * intervalo));
+        }
+
+        // Uma única consulta cobre todo o período da série
+        Map<LocalDate, IntervalosOcupados> ocupados = carregarIntervalosOcupados(
+                List.of(dto.dentistaId()),
+                horarios.get(0).toLocalDate().atStartOfDay(),
+                horarios.get(horarios.size() - 1).toLocalDate().plusDays(1).atStartOfDay())
+                .getOrDefault(dto.dentistaId(), Map.of());
+
+        List<Agenda> novas = new ArrayList<>();
+        for (LocalDateTime horario : horarios) {
+            IntervalosOcupados ocupadosNoDia = ocupados.getOrDefault(horario.toLocalDate(), IntervalosOcupados.VAZIO);
+            if (!ocupadosNoDia.sobrepoe(horario.toLocalTime(), duracao)) {
+                novas.add(Agenda.builder()
+                        .pacienteId(pacienteId)
+                        .pacienteNome(pacienteNome)
+                        .dentistaId(dto.dentistaId())
+                        .dentistaNome(dentistaNome)
+                        .dataHora(horario)
+                        .dataHoraFim(calcularFim(horario, duracao))
+                        .status(Agenda.StatusAgendamento.AGENDADO)
+                        .observacoes(dto.observacoes())
+                        .telefone(dto.telefone())
+                        .email(dto.email())
+                        .build());
+            }
+        }
+
+        Map<LocalDateTime, Agenda> salvas = new HashMap<>();
+        for (Agenda agenda : salvarTodasComExclusividade(novas)) {
+            salvas.put(agenda.getDataHora(), agenda);
+            registrarOcupacao(agenda);
+        }
+
+        List<SessaoRecorrenteDTO> sessoes = horarios.stream()
+                .map(horario -> {
+                    Agenda salva = salvas.get(horario);
+                    return SessaoRecorrenteDTO.builder()
+                            .dataHora(horario)
+                            .agendada(salva != null)
+                            .agendamentoId(salva != null ? salva.getId() : null)
+                            .motivo(salva != null ? null : "Horário já ocupado para o dentista")
+                            .build();
+                })
                 .collect(Collectors.toList());
+
+        if (!salvas.isEmpty()) {
+            publicarAlteracaoHistorico(pacienteId);
+        }
+
+        log.info("Série recorrente criada: {} sessões agendadas, {} conflitos",
+                salvas.size(), horarios.size() - salvas.size());
+
+        return AgendaRecorrenteResponseDTO.builder()
+                .agendadas(salvas.size())
+                .conflitos(horarios.size() - salvas.size())
+                .sessoes(sessoes)
+                .build();
     }
 
-    public List<AgendaListDTO> listarPorDentista(Long dentistaId) {
-        log.info("Listando agendamentos para dentista ID: {}", dentistaId);
-        return repository.findByDentistaIdOrderByDataHoraDesc(dentistaId).stream()
-                .map(converter::toListDTO)
-                .collect(Collectors.toList());
+    // Rotas antigas sem cursor: só a primeira página, no tamanho máximo, pela mesma consulta por cursor.
+    // Removida com essas rotas na versão 1.4 (ver AgendaController)
+    @Deprecated(since = "1.3", forRemoval = true)
+    @Transactional(readOnly = true)
+    public AgendaPaginaDTO listarPrimeiraPagina(FiltroAgendaDTO filtro) {
+        return listarPagina(filtro, null, LIMITE_MAXIMO_PAGINA);
     }
 
-    public List<AgendaListDTO> listarPorPaciente(Long pacienteId) {
-        log.info("Listando agendamentos para paciente ID: {}", pacienteId);
-        return repository.findByPacienteIdOrderByDataHoraDesc(pacienteId).stream()
-                .map(converter::toListDTO)
-                .collect(Collectors.toList());
+    @Transactional(readOnly = true)
+    public AgendaPaginaDTO listarPagina(FiltroAgendaDTO filtro, String cursor, Integer limite) {
+        int tamanho = limite != null ? Math.min(Math.max(limite, 1), LIMITE_MAXIMO_PAGINA) : LIMITE_PADRAO_PAGINA;
+        AgendaCursor posicao = AgendaCursor.decodificar(cursor);
+        log.info("Listando página de agendamentos - filtro: {}, tamanho: {}", filtro, tamanho);
+
+        // Busca um registro a mais para saber se existe próxima página
+        PageRequest pagina = PageRequest.of(0, tamanho + 1);
+        List<Agenda> agendas;
+        if (filtro.dentistaId() != null) {
+            agendas = repository.findPaginaPorDentista(filtro.dentistaId(), posicao.dataHora(), posicao.id(), pagina);
+        } else if (filtro.pacienteId() != null) {
+            agendas = repository.findPaginaPorPaciente(filtro.pacienteId(), posicao.dataHora(), posicao.id(), pagina);
+        } else if (filtro.status() != null) {
+            agendas = repository.findPaginaPorStatus(filtro.status(), posicao.dataHora(), posicao.id(), pagina);
+        } else {
+            agendas = repository.findPagina(posicao.dataHora(), posicao.id(), pagina);
+        }
+
+        boolean temMais = agendas.size() > tamanho;
+        List<Agenda> itens = temMais ? agendas.subList(0, tamanho) : agendas;
+        Agenda ultimo = itens.isEmpty() ? null : itens.get(itens.size() - 1);
+
+        return AgendaPaginaDTO.builder()
+                .itens(converter.toListDTOList(itens))
+                .proximoCursor(temMais ? new AgendaCursor(ultimo.getDataHora(), ultimo.getId()).codificar() : null)
+                .temMais(temMais)
+                .build();
     }
 
-    public List<AgendaListDTO> listarPorStatus(Agenda.StatusAgendamento status) {
-        log.info("Listando agendamentos com status: {}", status);
-        return repository.findByStatusOrderByDataHoraDesc(status).stream()
-                .map(converter::toListDTO)
-                .collect(Collectors.toList());
+    // Percorre os agendamentos sem materializar a lista; cada entidade é desanexada após o uso
+    @Transactional(readOnly = true)
+    public void percorrer(FiltroAgendaDTO filtro, Consumer<AgendaListDTO> consumidor) {
+        log.info("Exportando agendamentos em streaming - filtro: {}", filtro);
+
+        try (Stream<Agenda> agendas = abrirStream(filtro)) {
+            agendas.forEach(agenda -> {
+                consumidor.accept(converter.toListDTO(agenda));
+                entityManager.detach(agenda);
+            });
+        }
     }
 
     public AgendaResponseDTO buscarPorId(Long id) {
@@ -92,17 +226,25 @@ public class AgendaService {
         Agenda agenda = repository.findById(id)
                 .orElseThrow(() -> new AgendamentoNotFoundException("Agendamento não encontrado com ID: " + id));
 
-        // Validar disponibilidade se data/hora ou dentista foram alterados
+        Long dentistaAnterior = agenda.getDentistaId();
+        Long pacienteAnterior = agenda.getPacienteId();
+        LocalDateTime dataHoraAnterior = agenda.getDataHora();
+        int duracaoAnterior = duracaoMinutos(agenda);
+        int duracao = dto.duracaoMinutos() != null ? dto.duracaoMinutos() : duracaoAnterior;
+
+        // Validar disponibilidade se data/hora, duração ou dentista foram alterados
         if ((dto.dataHora() != null && !dto.dataHora().equals(agenda.getDataHora())) ||
-                (dto.dentistaId() != null && !dto.dentistaId().equals(agenda.getDentistaId()))) {
+                (dto.dentistaId() != null && !dto.dentistaId().equals(agenda.getDentistaId())) ||
+                duracao != duracaoAnterior) {
 
             Long dentistaId = dto.dentistaId() != null ? dto.dentistaId() : agenda.getDentistaId();
             LocalDateTime dataHora = dto.dataHora() != null ? dto.dataHora() : agenda.getDataHora();
 
-            validarDisponibilidade(dentistaId, dataHora, id);
+            validarDisponibilidade(dentistaId, dataHora, duracao, id);
         }
 
         converter.updateEntityFromDTO(agenda, dto);
+        agenda.setDataHoraFim(calcularFim(agenda.getDataHora(), duracao));
 
         if (dto.pacienteId() != null) {
             Long pacienteId = normalizePacienteId(dto.pacienteId());
@@ -115,7 +257,18 @@ public class AgendaService {
         if (dto.dentistaId() != null) {
             agenda.setDentistaNome(resolveDentistaNome(agenda.getDentistaId()));
         }
-        Agenda updated = repository.save(agenda);
+        Agenda updated = salvarComExclusividade(agenda);
+
+        if (!updated.getDentistaId().equals(dentistaAnterior) || !updated.getDataHora().equals(dataHoraAnterior)
+                || duracao != duracaoAnterior) {
+            ocupacaoIndex.liberar(dentistaAnterior, dataHoraAnterior);
+            registrarOcupacao(updated);
+        }
+
+        publicarAlteracaoHistorico(pacienteAnterior);
+        if (updated.getPacienteId() != null && !updated.getPacienteId().equals(pacienteAnterior)) {
+            publicarAlteracaoHistorico(updated.getPacienteId());
+        }
 
         log.info("Agendamento ID: {} atualizado com sucesso", id);
         return converter.toResponseDTO(updated);
@@ -133,6 +286,11 @@ public class AgendaService {
         agenda.setStatus(dto.status());
         Agenda updated = repository.save(agenda);
 
+        if (updated.getStatus() == Agenda.StatusAgendamento.CANCELADO) {
+            ocupacaoIndex.liberar(updated.getDentistaId(), updated.getDataHora());
+        }
+        publicarAlteracaoHistorico(updated.getPacienteId());
+
         log.info("Status do agendamento ID: {} atualizado para {}", id, dto.status());
         return converter.toResponseDTO(updated);
     }
@@ -141,30 +299,189 @@ public class AgendaService {
     public void deletar(Long id) {
         log.info("Deletando agendamento ID: {}", id);
 
-        if (!repository.existsById(id)) {
-            throw new AgendamentoNotFoundException("Agendamento não encontrado com ID: " + id);
-        }
+        Agenda agenda = repository.findById(id)
+                .orElseThrow(() -> new AgendamentoNotFoundException("Agendamento não encontrado com ID: " + id));
 
-        repository.deleteById(id);
+        repository.delete(agenda);
+        ocupacaoIndex.liberar(agenda.getDentistaId(), agenda.getDataHora());
+        publicarAlteracaoHistorico(agenda.getPacienteId());
         log.info("Agendamento ID: {} deletado com sucesso", id);
     }
 
     public List<LocalDateTime> verificarDisponibilidade(DisponibilidadeRequestDTO dto) {
         log.info("Verificando disponibilidade para dentista ID: {} em {}", dto.dentistaId(), dto.data());
 
-        LocalDateTime inicioDia = LocalDateTime.of(dto.data(), LocalTime.MIN);
-        LocalDateTime fimDia = LocalDateTime.of(dto.data(), LocalTime.MAX);
+        JornadaCompilada jornada = jornadaService.compilada(dto.dentistaId());
+        int duracao = jornada.duracao(dto.procedimento());
+
+        // Horários do expediente no intervalo, sem sobreposição com o índice de ocupação em memória
+        IntervalosOcupados ocupados = ocupacaoIndex.ocupados(dto.dentistaId(), dto.data());
+        return jornada.horarios(dto.data(), dto.horaInicio(), dto.horaFim(), duracao).stream()
+                .filter(hora -> !ocupados.sobrepoe(hora, duracao))
+                .map(hora -> LocalDateTime.of(dto.data(), hora))
+                .collect(Collectors.toList());
+    }
+
+    public List<HorarioDisponivelDTO> buscarHorariosDisponiveis(BuscaDisponibilidadeRequestDTO dto) {
+        log.info("Buscando horários disponíveis para dentistas {} de {} a {}",
+                dto.dentistaIds(), dto.dataInicio(), dto.dataFim());
+
+        if (dto.dataFim().isBefore(dto.dataInicio())) {
+            throw new IllegalArgumentException("Data final deve ser igual ou posterior à data inicial");
+        }
+        if (dto.dataFim().isAfter(dto.dataInicio().plusDays(LIMITE_DIAS_BUSCA))) {
+            throw new IllegalArgumentException("O período de busca deve ter no máximo " + LIMITE_DIAS_BUSCA + " dias");
+        }
+        if (!dto.horaFim().isAfter(dto.horaInicio())) {
+            throw new IllegalArgumentException("Hora final deve ser posterior à hora inicial");
+        }
+
+        int quantidade = dto.quantidade() != null ? dto.quantidade() : QUANTIDADE_PADRAO_BUSCA;
+
+        Map<Long, String> nomes = new HashMap<>();
+        dentistaRepository.findAllById(dto.dentistaIds())
+                .forEach(dentista -> nomes.put(dentista.getId(), dentista.getNome()));
+        List<Long> dentistaIds = new LinkedHashSet<>(dto.dentistaIds()).stream()
+                .filter(nomes::containsKey)
+                .collect(Collectors.toList());
+        if (dentistaIds.isEmpty()) {
+            return List.of();
+        }
+
+        // Uma única consulta carrega todos os horários ocupados do período
+        Map<Long, Map<LocalDate, IntervalosOcupados>> ocupados = carregarIntervalosOcupados(
+                dentistaIds, dto.dataInicio().atStartOfDay(), dto.dataFim().plusDays(1).atStartOfDay());
+
+        LocalDateTime agora = LocalDateTime.now();
+        List<HorarioDisponivelDTO> disponiveis = new ArrayList<>();
+
+        for (LocalDate data = dto.dataInicio(); !data.isAfter(dto.dataFim()); data = data.plusDays(1)) {
+            List<HorarioDisponivelDTO> doDia = new ArrayList<>();
+
+            for (Long dentistaId : dentistaIds) {
+                JornadaCompilada jornada = jornadaService.compilada(dentistaId);
+                int duracao = jornada.duracao(dto.procedimento());
+                IntervalosOcupados ocupadosNoDia = ocupados.getOrDefault(dentistaId, Map.of())
+                        .getOrDefault(data, IntervalosOcupados.VAZIO);
+
+                for (LocalTime hora : jornada.horarios(data, dto.horaInicio(), dto.horaFim(), duracao)) {
+                    LocalDateTime horario = LocalDateTime.of(data, hora);
+                    if (!horario.isBefore(agora) && !ocupadosNoDia.sobrepoe(hora, duracao)) {
+                        doDia.add(HorarioDisponivelDTO.builder()
+                                .dentistaId(dentistaId)
+                                .dentistaNome(nomes.get(dentistaId))
+                                .dataHora(horario)
+                                .build());
+                    }
+                }
+            }
+
+            // Cada dentista tem sua grade: ordena por horário, mantendo a ordem dos dentistas nos empates
+            doDia.sort(Comparator.comparing(HorarioDisponivelDTO::dataHora));
+            for (HorarioDisponivelDTO horario : doDia) {
+                disponiveis.add(horario);
+                if (disponiveis.size() >= quantidade) {
+                    return disponiveis;
+                }
+            }
+        }
+
+        return disponiveis;
+    }
+
+    public CalendarioDTO montarCalendario(LocalDate dataInicio, LocalDate dataFim, List<Long> dentistaIds,
+                                          LocalTime horaInicio, LocalTime horaFim) {
+        log.info("Montando calendário de {} a {} para dentistas {}", dataInicio, dataFim, dentistaIds);
 
-        // Buscar horários ocupados
-        List<LocalDateTime> horariosOcupados = repository.findHorariosOcupadosNoDia(dto.dentistaId(), inicioDia);
+        LocalTime inicioGrade = horaInicio != null ? horaInicio : INICIO_PADRAO_CALENDARIO;
+        LocalTime fimGrade = horaFim != null ? horaFim : FIM_PADRAO_CALENDARIO;
 
-        // Gerar todos os horários possíveis no intervalo
-        List<LocalDateTime> todosHorarios = gerarHorariosNoIntervalo(dto.horaInicio(), dto.horaFim(), dto.data());
+        if (dataFim.isBefore(dataInicio)) {
+            throw new IllegalArgumentException("Data final deve ser igual ou posterior à data inicial");
+        }
+        if (dataFim.isAfter(dataInicio.plusDays(LIMITE_DIAS_CALENDARIO - 1))) {
+            throw new IllegalArgumentException("O calendário deve ter no máximo " + LIMITE_DIAS_CALENDARIO + " dias");
+        }
+        if (!fimGrade.isAfter(inicioGrade)) {
+            throw new IllegalArgumentException("Hora final deve ser posterior à hora inicial");
+        }
+
+        // Sem filtro: todos os dentistas ativos
+        Map<Long, String> nomes = new LinkedHashMap<>();
+        List<Dentista> dentistas = dentistaIds == null || dentistaIds.isEmpty()
+                ? dentistaRepository.findByAtivoTrue()
+                : dentistaRepository.findAllById(new LinkedHashSet<>(dentistaIds));
+        dentistas.forEach(dentista -> nomes.put(dentista.getId(), dentista.getNome()));
+
+        List<LocalDate> dias = dataInicio.datesUntil(dataFim.plusDays(1)).collect(Collectors.toList());
+        List<LocalTime> horarios = gerarHorariosNoIntervalo(inicioGrade, fimGrade, dataInicio).stream()
+                .map(LocalDateTime::toLocalTime)
+                .collect(Collectors.toList());
+
+        Map<Long, CalendarioDentistaDTO> porDentista = new LinkedHashMap<>();
+        Map<Long, char[][]> grades = new HashMap<>();
+        for (Map.Entry<Long, String> dentista : nomes.entrySet()) {
+            char[][] grade = new char[dias.size()][horarios.size()];
+            for (char[] dia : grade) {
+                Arrays.fill(dia, SLOT_LIVRE);
+            }
+            grades.put(dentista.getKey(), grade);
+            porDentista.put(dentista.getKey(), CalendarioDentistaDTO.builder()
+                    .dentistaId(dentista.getKey())
+                    .dentistaNome(dentista.getValue())
+                    .agendamentoIds(new ArrayList<>())
+                    .dias(new ArrayList<>())
+                    .slots(new ArrayList<>())
+                    .status(new ArrayList<>())
+                    .pacientes(new ArrayList<>())
+                    .build());
+        }
+
+        if (!nomes.isEmpty()) {
+            List<CalendarioItemDTO> itens = repository.findCalendario(
+                    nomes.keySet(), dataInicio.atStartOfDay(), dataFim.plusDays(1).atStartOfDay());
+
+            for (CalendarioItemDTO item : itens) {
+                // Minutos a partir do início da grade; o agendamento ocupa todo slot de 30 min que cobre
+                LocalDateTime inicioDaGrade = item.dataHora().toLocalDate().atTime(inicioGrade);
+                long inicio = ChronoUnit.MINUTES.between(inicioDaGrade, item.dataHora());
+                long fim = ChronoUnit.MINUTES.between(inicioDaGrade, fimDoItem(item));
+
+                int primeiroSlot = (int) Math.max(0, Math.floorDiv(inicio, DURACAO_SLOT_CALENDARIO_MINUTOS));
+                int ultimoSlot = (int) Math.min(horarios.size(),
+                        Math.floorDiv(fim + DURACAO_SLOT_CALENDARIO_MINUTOS - 1, DURACAO_SLOT_CALENDARIO_MINUTOS));
+                if (primeiroSlot >= ultimoSlot) {
+                    continue;
+                }
+
+                int dia = (int) ChronoUnit.DAYS.between(dataInicio, item.dataHora().toLocalDate());
+                int codigo = item.status().ordinal();
+                Arrays.fill(grades.get(item.dentistaId())[dia], primeiroSlot, ultimoSlot,
+                        Character.forDigit(codigo, Character.MAX_RADIX));
+
+                CalendarioDentistaDTO colunas = porDentista.get(item.dentistaId());
+                colunas.agendamentoIds().add(item.id());
+                colunas.dias().add(dia);
+                colunas.slots().add(primeiroSlot);
+                colunas.status().add(codigo);
+                colunas.pacientes().add(abreviarNome(item.pacienteNome()));
+            }
+        }
 
-        // Filtrar horários disponíveis
-        return todosHorarios.stream()
-                .filter(horario -> !horariosOcupados.contains(horario))
+        List<CalendarioDentistaDTO> colunasDentistas = porDentista.values().stream()
+                .map(colunas -> colunas.toBuilder()
+                        .grade(Arrays.stream(grades.get(colunas.dentistaId()))
+                                .map(String::new)
+                                .collect(Collectors.toList()))
+                        .build())
                 .collect(Collectors.toList());
+
+        return CalendarioDTO.builder()
+                .dias(dias)
+                .horarios(horarios)
+                .codigosStatus(List.of(Agenda.StatusAgendamento.values()))
+                .dentistas(colunasDentistas)
+                .build();
     }
 
     public ProximoHorarioResponseDTO buscarProximoHorario(Long dentistaId) {
@@ -197,15 +514,39 @@ public class AgendaService {
                 .collect(Collectors.toList());
     }
 
+    private Stream<Agenda> abrirStream(FiltroAgendaDTO filtro) {
+        if (filtro.dentistaId() != null) {
+            return repository.streamPorDentista(filtro.dentistaId());
+        }
+        if (filtro.pacienteId() != null) {
+            return repository.streamPorPaciente(filtro.pacienteId());
+        }
+        if (filtro.status() != null) {
+            return repository.streamPorStatus(filtro.status());
+        }
+        return repository.streamTodos();
+    }
+
+    // "Maria Aparecida Souza" -> "Maria S."
+    private String abreviarNome(String nome) {
+        if (nome == null || nome.isBlank()) {
+            return nome;
+        }
+
+        String[] partes = nome.trim().split("\\s+");
+        if (partes.length == 1) {
+            return partes[0];
+        }
+        return partes[0] + " " + partes[partes.length - 1].charAt(0) + ".";
+    }
+
     private Long normalizePacienteId(Long pacienteId) {
         return (pacienteId != null && pacienteId > 0) ? pacienteId : null;
     }
 
     private String resolvePacienteNome(Long pacienteId, String nomeInformado) {
         if (pacienteId != null) {
-            Paciente paciente = pacienteRepository.findById(pacienteId)
-                    .orElseThrow(() -> new PacienteNotFoundException("Paciente não encontrado com ID: " + pacienteId));
-            return paciente.getNome();
+            return nomesResolver.nomePaciente(pacienteId);
         }
 
         if (nomeInformado == null || nomeInformado.isBlank()) {
@@ -216,19 +557,129 @@ public class AgendaService {
     }
 
     private String resolveDentistaNome(Long dentistaId) {
-        Dentista dentista = dentistaRepository.findById(dentistaId)
-                .orElseThrow(() -> new DentistaNotFoundException("Dentista não encontrado com ID: " + dentistaId));
-        return dentista.getNome();
+        return nomesResolver.nomeDentista(dentistaId);
+    }
+
+    // Agendamentos do período agrupados por dentista e dia como intervalos [início, fim)
+    private Map<Long, Map<LocalDate, IntervalosOcupados>> carregarIntervalosOcupados(
+            List<Long> dentistaIds, LocalDateTime inicio, LocalDateTime fim) {
+        Map<Long, Map<LocalDate, List<HorarioOcupadoDTO>>> inicios = new HashMap<>();
+        for (HorarioOcupadoDTO horario : repository.findHorariosOcupadosNoPeriodo(dentistaIds, inicio, fim)) {
+            inicios.computeIfAbsent(horario.dentistaId(), id -> new HashMap<>())
+                    .computeIfAbsent(horario.dataHora().toLocalDate(), dia -> new ArrayList<>())
+                    .add(horario);
+        }
+
+        Map<Long, Map<LocalDate, IntervalosOcupados>> ocupados = new HashMap<>();
+        inicios.forEach((dentistaId, dias) -> {
+            int duracao = jornadaService.compilada(dentistaId).duracaoSlot();
+            Map<LocalDate, IntervalosOcupados> porDia = new HashMap<>();
+            dias.forEach((dia, horarios) -> porDia.put(dia, IntervalosOcupados.de(horarios, duracao)));
+            ocupados.put(dentistaId, porDia);
+        });
+        return ocupados;
     }
 
-    private void validarDisponibilidade(Long dentistaId, LocalDateTime dataHora, Long idExcluir) {
+    // Agendamentos sem paciente cadastrado não fazem parte de nenhum histórico
+    private void publicarAlteracaoHistorico(Long pacienteId) {
+        if (pacienteId != null) {
+            eventPublisher.publishEvent(new HistoricoPacienteAlteradoEvent(pacienteId));
+        }
+    }
+
+    // Sem lock na aplicação: reservas concorrentes que se sobrepõem são decididas no banco, pela
+    // restrição de exclusão de períodos (migração V4) ou pelo índice único de início (migração V2)
+    private Agenda salvarComExclusividade(Agenda agenda) {
+        try {
+            return repository.saveAndFlush(agenda);
+        } catch (DataIntegrityViolationException e) {
+            if (isViolacaoDeHorario(e)) {
+                log.info("Conflito concorrente para dentista ID: {} em {}", agenda.getDentistaId(), agenda.getDataHora());
+                throw new ConflitoAgendamentoException(
+                        "Já existe um agendamento para o dentista no horário selecionado");
+            }
+            throw e;
+        }
+    }
+
+    // Se outra reserva ocupou um dos horários entre a consulta e o insert, a série inteira é desfeita
+    private List<Agenda> salvarTodasComExclusividade(List<Agenda> agendas) {
+        try {
+            return repository.saveAllAndFlush(agendas);
+        } catch (DataIntegrityViolationException e) {
+            if (isViolacaoDeHorario(e)) {
+                log.info("Conflito concorrente ao salvar série recorrente para dentista ID: {}",
+                        agendas.get(0).getDentistaId());
+                throw new ConflitoAgendamentoException(
+                        "Um dos horários da série foi ocupado durante o agendamento; tente novamente");
+            }
+            throw e;
+        }
+    }
+
+    private boolean isViolacaoDeHorario(DataIntegrityViolationException e) {
+        for (Throwable causa = e.getCause(); causa != null; causa = causa.getCause()) {
+            if (causa instanceof ConstraintViolationException violacao && violacao.getConstraintName() != null) {
+                return Agenda.UK_DENTISTA_DATA_HORA_ATIVO.equalsIgnoreCase(violacao.getConstraintName())
+                        || Agenda.EX_DENTISTA_PERIODO_ATIVO.equalsIgnoreCase(violacao.getConstraintName());
+            }
+            // O dialeto não extrai o nome de restrições de exclusão; a tabela só tem uma
+            if (causa instanceof SQLException sql && SQLSTATE_EXCLUSION_VIOLATION.equals(sql.getSQLState())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void registrarOcupacao(Agenda agenda) {
+        if (agenda.getStatus() != Agenda.StatusAgendamento.CANCELADO) {
+            ocupacaoIndex.ocupar(agenda.getDentistaId(), agenda.getDataHora(), duracaoMinutos(agenda));
+        }
+    }
+
+    private int resolverDuracao(Long dentistaId, Integer duracaoMinutos) {
+        return duracaoMinutos != null ? duracaoMinutos : jornadaService.compilada(dentistaId).duracaoSlot();
+    }
+
+    // Mesmo fim de duracaoMinutos para itens da projeção do calendário
+    private LocalDateTime fimDoItem(CalendarioItemDTO item) {
+        if (item.dataHoraFim() == null) {
+            return item.dataHora().plusMinutes(jornadaService.compilada(item.dentistaId()).duracaoSlot());
+        }
+        return item.dataHoraFim();
+    }
+
+    // Agendamentos gravados antes de existir data_hora_fim duram o slot da jornada
+    private int duracaoMinutos(Agenda agenda) {
+        if (agenda.getDataHoraFim() == null) {
+            return jornadaService.compilada(agenda.getDentistaId()).duracaoSlot();
+        }
+        return (int) Duration.between(agenda.getDataHora(), agenda.getDataHoraFim()).toMinutes();
+    }
+
+    private LocalDateTime calcularFim(LocalDateTime inicio, int duracaoMinutos) {
+        LocalDateTime fim = inicio.plusMinutes(duracaoMinutos);
+        if (fim.isAfter(inicio.toLocalDate().plusDays(1).atStartOfDay())) {
+            throw new IllegalArgumentException("O agendamento deve terminar no mesmo dia em que começa");
+        }
+        return fim;
+    }
+
+    // A exclusividade do período é garantida pela restrição de exclusão em agendamentos (migração V4).
+    // Aqui só há consulta ao banco quando o índice em memória aponta sobreposição, para confirmá-la.
+    private void validarDisponibilidade(Long dentistaId, LocalDateTime dataHora, int duracao, Long idExcluir) {
+        LocalDateTime fim = calcularFim(dataHora, duracao);
+        if (!ocupacaoIndex.estaOcupado(dentistaId, dataHora, duracao)) {
+            return;
+        }
+
         boolean conflito;
+        LocalDateTime inicioDia = dataHora.toLocalDate().atStartOfDay();
 
         if (idExcluir != null) {
-            conflito = repository.existsByDentistaIdAndDataHoraAndStatusNotCanceladoAndIdNot(
-                    dentistaId, dataHora, idExcluir);
+            conflito = repository.existsSobreposicaoExcluindo(dentistaId, inicioDia, dataHora, fim, idExcluir);
         } else {
-            conflito = repository.existsByDentistaIdAndDataHoraAndStatusNotCancelado(dentistaId, dataHora);
+            conflito = repository.existsSobreposicao(dentistaId, inicioDia, dataHora, fim);
         }
 
         if (conflito) {
@@ -250,43 +701,40 @@ public class AgendaService {
         List<LocalDateTime> horarios = new ArrayList<>();
         LocalDateTime horarioAtual = LocalDateTime.of(data, inicio);
 
-        while (!horarioAtual.toLocalTime().isAfter(fim.minusMinutes(30))) {
+        while (!horarioAtual.toLocalTime().isAfter(fim.minusMinutes(DURACAO_SLOT_CALENDARIO_MINUTOS))) {
             horarios.add(horarioAtual);
-            horarioAtual = horarioAtual.plusMinutes(30);
+            horarioAtual = horarioAtual.plusMinutes(DURACAO_SLOT_CALENDARIO_MINUTOS);
         }
 
         return horarios;
     }
 
     private LocalDateTime calcularProximoHorarioDisponivel(Long dentistaId, LocalDateTime dataBase) {
-        LocalDateTime proximoHorario = dataBase.plusDays(1)
-                .withHour(8)
-                .withMinute(0)
-                .withSecond(0)
-                .withNano(0);
-
-        // Ajustar para o próximo horário comercial válido (segunda a sexta, 8h-18h)
-        while (proximoHorario.getDayOfWeek().getValue() > 6) { // Fim de semana
-            proximoHorario = proximoHorario.plusDays(1);
-        }
-
-        // Verificar disponibilidade
-        while (repository.existsByDentistaIdAndDataHoraAndStatusNotCancelado(dentistaId, proximoHorario)) {
-            proximoHorario = proximoHorario.plusMinutes(60);
-
-            // Se passou do horário comercial, ir para o próximo dia
-            if (proximoHorario.toLocalTime().isAfter(LocalTime.of(17, 30))) {
-                proximoHorario = proximoHorario.plusDays(1)
-                        .withHour(8)
-                        .withMinute(0);
-
-                // Pular fins de semana
-                while (proximoHorario.getDayOfWeek().getValue() > 5) {
-                    proximoHorario = proximoHorario.plusDays(1);
+        JornadaCompilada jornada = jornadaService.compilada(dentistaId);
+        int duracao = jornada.duracaoSlot();
+
+        LocalDate primeiroDia = dataBase.toLocalDate().plusDays(1);
+        LocalDate limite = primeiroDia.plusDays(LIMITE_DIAS_BUSCA);
+
+        // Horários ocupados são carregados por janelas, com uma consulta por janela
+        for (LocalDate inicioJanela = primeiroDia; inicioJanela.isBefore(limite);
+             inicioJanela = inicioJanela.plusDays(JANELA_PROXIMO_HORARIO_DIAS)) {
+            LocalDate fimJanela = inicioJanela.plusDays(JANELA_PROXIMO_HORARIO_DIAS);
+            Map<LocalDate, IntervalosOcupados> ocupados = carregarIntervalosOcupados(
+                    List.of(dentistaId), inicioJanela.atStartOfDay(), fimJanela.atStartOfDay())
+                    .getOrDefault(dentistaId, Map.of());
+
+            for (LocalDate dia = inicioJanela; dia.isBefore(fimJanela); dia = dia.plusDays(1)) {
+                IntervalosOcupados ocupadosNoDia = ocupados.getOrDefault(dia, IntervalosOcupados.VAZIO);
+                for (LocalTime hora : jornada.horarios(dia, null, null, duracao)) {
+                    if (!ocupadosNoDia.sobrepoe(hora, duracao)) {
+                        return LocalDateTime.of(dia, hora);
+                    }
                 }
             }
         }
 
-        return proximoHorario;
+        throw new IllegalStateException(
+                "Nenhum horário disponível para o dentista nos próximos " + LIMITE_DIAS_BUSCA + " dias");
     }
 }
\ No newline at end of file
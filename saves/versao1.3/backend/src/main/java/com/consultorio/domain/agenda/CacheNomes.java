@@ -0,0 +1,55 @@
+// CacheNomes.java
+package com.consultorio.domain.agenda;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+// Cache LRU com tamanho máximo e expiração por entrada.
+// geracao descarta cargas que começaram antes de uma invalidação
+final class CacheNomes {
+
+    private final long ttlNanos;
+    private final LinkedHashMap<Long, Entrada> entradas;
+    private long geracao;
+
+    CacheNomes(int tamanhoMaximo, Duration ttl) {
+        this.ttlNanos = ttl.toNanos();
+        this.entradas = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Entrada> maisAntiga) {
+                return size() > tamanhoMaximo;
+            }
+        };
+    }
+
+    String obter(Long id, Function<Long, String> carregar) {
+        long agora = System.nanoTime();
+        long geracaoDaCarga;
+
+        synchronized (this) {
+            Entrada entrada = entradas.get(id);
+            if (entrada != null && agora - entrada.carregadoEm() < ttlNanos) {
+                return entrada.nome();
+            }
+            geracaoDaCarga = geracao;
+        }
+
+        // Carrega fora do lock; duas cargas simultâneas do mesmo id retornam o mesmo valor
+        String nome = carregar.apply(id);
+        synchronized (this) {
+            if (geracao == geracaoDaCarga) {
+                entradas.put(id, new Entrada(nome, agora));
+            }
+        }
+        return nome;
+    }
+
+    synchronized void invalidar(Long id) {
+        geracao++;
+        entradas.remove(id);
+    }
+
+    private record Entrada(String nome, long carregadoEm) {}
+}
@@ -0,0 +1,94 @@
+// IntervalosOcupados.java
+package com.consultorio.domain.agenda;
+
+import com.consultorio.domain.agenda.dto.HorarioOcupadoDTO;
+
+import java.time.Duration;
+import java.time.LocalTime;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Agendamentos de um dentista em um dia como intervalos [inicio, fim) em minutos do dia, ordenados pelo início.
+ * fimMaximo[i] guarda o maior fim entre os intervalos 0..i, então a sobreposição é decidida com uma busca binária.
+ * Imutável: inclusões devolvem uma nova instância.
+ */
+public final class IntervalosOcupados {
+
+    public static final IntervalosOcupados VAZIO = new IntervalosOcupados(new int[0], new int[0]);
+
+    private final int[] inicios;
+    private final int[] fins;
+    private final int[] fimMaximo;
+
+    private IntervalosOcupados(int[] inicios, int[] fins) {
+        this.inicios = inicios;
+        this.fins = fins;
+        this.fimMaximo = new int[fins.length];
+        for (int i = 0; i < fins.length; i++) {
+            fimMaximo[i] = i == 0 ? fins[i] : Math.max(fimMaximo[i - 1], fins[i]);
+        }
+    }
+
+    // Agendamentos gravados antes de existir data_hora_fim ocupam 'duracaoPadraoMinutos' a partir do início
+    public static IntervalosOcupados de(List<HorarioOcupadoDTO> horarios, int duracaoPadraoMinutos) {
+        List<HorarioOcupadoDTO> ordenados = horarios.stream()
+                .sorted(Comparator.comparing(HorarioOcupadoDTO::dataHora))
+                .toList();
+
+        int[] inicios = new int[ordenados.size()];
+        int[] fins = new int[ordenados.size()];
+        for (int i = 0; i < ordenados.size(); i++) {
+            HorarioOcupadoDTO horario = ordenados.get(i);
+            inicios[i] = minutoDoDia(horario.dataHora().toLocalTime());
+            fins[i] = horario.dataHoraFim() != null
+                    ? inicios[i] + (int) Duration.between(horario.dataHora(), horario.dataHoraFim()).toMinutes()
+                    : inicios[i] + duracaoPadraoMinutos;
+        }
+        return new IntervalosOcupados(inicios, fins);
+    }
+
+    public static int minutoDoDia(LocalTime hora) {
+        return hora.getHour() * 60 + hora.getMinute();
+    }
+
+    public boolean sobrepoe(int inicio, int fim) {
+        int ultimo = quantidadeIniciadosAntesDe(fim) - 1;
+        return ultimo >= 0 && fimMaximo[ultimo] > inicio;
+    }
+
+    public boolean sobrepoe(LocalTime inicio, int duracaoMinutos) {
+        int minuto = minutoDoDia(inicio);
+        return sobrepoe(minuto, minuto + duracaoMinutos);
+    }
+
+    public IntervalosOcupados com(int inicio, int fim) {
+        int posicao = quantidadeIniciadosAntesDe(inicio);
+
+        int[] novosInicios = new int[inicios.length + 1];
+        int[] novosFins = new int[fins.length + 1];
+        System.arraycopy(inicios, 0, novosInicios, 0, posicao);
+        System.arraycopy(fins, 0, novosFins, 0, posicao);
+        novosInicios[posicao] = inicio;
+        novosFins[posicao] = fim;
+        System.arraycopy(inicios, posicao, novosInicios, posicao + 1, inicios.length - posicao);
+        System.arraycopy(fins, posicao, novosFins, posicao + 1, fins.length - posicao);
+
+        return new IntervalosOcupados(novosInicios, novosFins);
+    }
+
+    // Quantidade de intervalos com início < limite (inicios está ordenado)
+    private int quantidadeIniciadosAntesDe(int limite) {
+        int baixo = 0;
+        int alto = inicios.length;
+        while (baixo < alto) {
+            int meio = (baixo + alto) >>> 1;
+            if (inicios[meio] < limite) {
+                baixo = meio + 1;
+            } else {
+                alto = meio;
+            }
+        }
+        return baixo;
+    }
+}
@@ -0,0 +1,7 @@
+// NomeDentistaPropagadoEvent.java
+package com.consultorio.domain.agenda;
+
+// Publicado quando o novo nome de um dentista já foi gravado em agendamentos.dentista_nome: caches
+// que leem o nome pelos agendamentos só podem ser descartados depois do commit desta propagação
+public record NomeDentistaPropagadoEvent(Long dentistaId) {
+}
@@ -0,0 +1,64 @@
+// NomesAgendaListener.java
+package com.consultorio.domain.agenda;
+
+import com.consultorio.domain.dentista.DentistaAlteradoEvent;
+import com.consultorio.domain.paciente.event.PacienteAlteradoEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NomesAgendaListener {
+
+    private final NomesAgendaResolver nomesResolver;
+    private final AgendaRepository repository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    // ========== INVALIDAÇÃO DO CACHE ==========
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void invalidarPaciente(PacienteAlteradoEvent evento) {
+        nomesResolver.invalidarPaciente(evento.pacienteId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void invalidarDentista(DentistaAlteradoEvent evento) {
+        nomesResolver.invalidarDentista(evento.dentistaId());
+    }
+
+    // ========== PROPAGAÇÃO PARA AGENDAMENTOS ==========
+
+    @Async
+    @TransactionalEventListener(fallbackExecution = true)
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void propagarNomePaciente(PacienteAlteradoEvent evento) {
+        if (!evento.isNomeAlterado()) {
+            return;
+        }
+
+        int atualizados = repository.atualizarPacienteNome(evento.pacienteId(), evento.nomeAtual());
+        log.info("Nome do paciente ID: {} propagado para {} agendamentos", evento.pacienteId(), atualizados);
+    }
+
+    @Async
+    @TransactionalEventListener(fallbackExecution = true)
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void propagarNomeDentista(DentistaAlteradoEvent evento) {
+        if (!evento.isNomeAlterado()) {
+            return;
+        }
+
+        int atualizados = repository.atualizarDentistaNome(evento.dentistaId(), evento.nomeAtual());
+        log.info("Nome do dentista ID: {} propagado para {} agendamentos", evento.dentistaId(), atualizados);
+        if (atualizados > 0) {
+            eventPublisher.publishEvent(new NomeDentistaPropagadoEvent(evento.dentistaId()));
+        }
+    }
+}
@@ -0,0 +1,51 @@
+// NomesAgendaResolver.java
+package com.consultorio.domain.agenda;
+
+import com.consultorio.domain.dentista.DentistaRepository;
+import com.consultorio.domain.dentista.exception.DentistaNotFoundException;
+import com.consultorio.domain.paciente.erro.PacienteNotFoundException;
+import com.consultorio.domain.paciente.repository.PacienteRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+// Nomes copiados para agendamentos.paciente_nome/dentista_nome, lidos por projeção e mantidos em cache
+@Slf4j
+@Component
+public class NomesAgendaResolver {
+
+    private static final int TAMANHO_MAXIMO = 10_000;
+    private static final Duration TTL = Duration.ofMinutes(10);
+
+    private final PacienteRepository pacienteRepository;
+    private final DentistaRepository dentistaRepository;
+
+    private final CacheNomes pacientes = new CacheNomes(TAMANHO_MAXIMO, TTL);
+    private final CacheNomes dentistas = new CacheNomes(TAMANHO_MAXIMO, TTL);
+
+    public NomesAgendaResolver(PacienteRepository pacienteRepository, DentistaRepository dentistaRepository) {
+        this.pacienteRepository = pacienteRepository;
+        this.dentistaRepository = dentistaRepository;
+    }
+
+    public String nomePaciente(Long pacienteId) {
+        return pacientes.obter(pacienteId, id -> pacienteRepository.findNomeById(id)
+                .orElseThrow(() -> new PacienteNotFoundException("Paciente não encontrado com ID: " + id)));
+    }
+
+    public String nomeDentista(Long dentistaId) {
+        return dentistas.obter(dentistaId, id -> dentistaRepository.findNomeById(id)
+                .orElseThrow(() -> new DentistaNotFoundException("Dentista não encontrado com ID: " + id)));
+    }
+
+    public void invalidarPaciente(Long pacienteId) {
+        log.debug("Invalidando nome em cache do paciente ID: {}", pacienteId);
+        pacientes.invalidar(pacienteId);
+    }
+
+    public void invalidarDentista(Long dentistaId) {
+        log.debug("Invalidando nome em cache do dentista ID: {}", dentistaId);
+        dentistas.invalidar(dentistaId);
+    }
+}
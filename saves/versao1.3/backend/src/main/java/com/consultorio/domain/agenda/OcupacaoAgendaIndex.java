@@ -0,0 +1,129 @@
+// OcupacaoAgendaIndex.java
+package com.consultorio.domain.agenda;
+
+import com.consultorio.domain.agenda.dto.HorarioOcupadoDTO;
+import com.consultorio.domain.dentista.JornadaAlteradaEvent;
+import com.consultorio.domain.dentista.JornadaService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Índice em memória dos horários ocupados de cada dentista por dia, como intervalos ordenados (IntervalosOcupados).
+ * Escritas são aplicadas após o commit; dias ainda não carregados são lidos do repositório.
+ * Toda escrita avança a geração: um dia lido do banco antes de uma escrita não é guardado, porque a leitura
+ * pode não ter visto o commit e a escrita não encontrou o dia no índice para aplicar-se.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OcupacaoAgendaIndex {
+
+    private static final int LIMITE_DIAS_EM_MEMORIA = 100_000;
+
+    private final AgendaRepository repository;
+    private final JornadaService jornadaService;
+
+    private final Map<DiaDentista, IntervalosOcupados> ocupacao = new ConcurrentHashMap<>();
+    private final AtomicLong geracao = new AtomicLong();
+
+    // ========== CONSULTAS ==========
+
+    public IntervalosOcupados ocupados(Long dentistaId, LocalDate data) {
+        DiaDentista chave = new DiaDentista(dentistaId, data);
+
+        IntervalosOcupados intervalos = ocupacao.get(chave);
+        if (intervalos != null) {
+            return intervalos;
+        }
+
+        long geracaoDaCarga = geracao.get();
+        IntervalosOcupados carregado = carregarDia(chave);
+        if (ocupacao.size() >= LIMITE_DIAS_EM_MEMORIA) {
+            log.debug("Índice de ocupação atingiu {} dias, descartando entradas", LIMITE_DIAS_EM_MEMORIA);
+            ocupacao.clear();
+        }
+
+        // Conferido sob o lock da chave: uma escrita que avançar a geração depois disso ainda se aplica ao dia guardado
+        IntervalosOcupados guardado = ocupacao.compute(chave, (dia, atual) -> {
+            if (atual != null) {
+                return atual;
+            }
+            return geracao.get() == geracaoDaCarga ? carregado : null;
+        });
+        return guardado != null ? guardado : carregado;
+    }
+
+    public boolean estaOcupado(Long dentistaId, LocalDateTime inicio, int duracaoMinutos) {
+        return ocupados(dentistaId, inicio.toLocalDate()).sobrepoe(inicio.toLocalTime(), duracaoMinutos);
+    }
+
+    // ========== ESCRITA (WRITE-THROUGH) ==========
+
+    public void ocupar(Long dentistaId, LocalDateTime inicio, int duracaoMinutos) {
+        if (dentistaId == null || inicio == null) {
+            return;
+        }
+
+        DiaDentista chave = new DiaDentista(dentistaId, inicio.toLocalDate());
+        int minuto = IntervalosOcupados.minutoDoDia(inicio.toLocalTime());
+        aposCommit(() -> {
+            geracao.incrementAndGet();
+            ocupacao.computeIfPresent(chave, (dia, intervalos) -> intervalos.com(minuto, minuto + duracaoMinutos));
+        });
+    }
+
+    public void liberar(Long dentistaId, LocalDateTime dataHora) {
+        if (dentistaId == null || dataHora == null) {
+            return;
+        }
+
+        // Pode haver mais de um agendamento no mesmo horário (dados legados), então o dia é recarregado do banco
+        DiaDentista chave = new DiaDentista(dentistaId, dataHora.toLocalDate());
+        aposCommit(() -> {
+            geracao.incrementAndGet();
+            ocupacao.remove(chave);
+        });
+    }
+
+    // A duração padrão dos agendamentos legados depende da jornada: os dias do dentista são recarregados
+    @TransactionalEventListener(fallbackExecution = true)
+    public void aoAlterarJornada(JornadaAlteradaEvent evento) {
+        geracao.incrementAndGet();
+        ocupacao.keySet().removeIf(chave -> chave.dentistaId().equals(evento.dentistaId()));
+    }
+
+    // ========== MÉTODOS PRIVADOS ==========
+
+    private IntervalosOcupados carregarDia(DiaDentista chave) {
+        List<HorarioOcupadoDTO> horarios = repository.findHorariosOcupadosNoDia(
+                chave.dentistaId(), chave.data().atStartOfDay(), chave.data().plusDays(1).atStartOfDay());
+
+        return IntervalosOcupados.de(horarios, jornadaService.compilada(chave.dentistaId()).duracaoSlot());
+    }
+
+    private void aposCommit(Runnable acao) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    acao.run();
+                }
+            });
+        } else {
+            acao.run();
+        }
+    }
+
+    private record DiaDentista(Long dentistaId, LocalDate data) {}
+}
@@ -0,0 +1,35 @@
+// AgendaCursor.java
+package com.consultorio.domain.agenda.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+// Posição da paginação por chave (dataHora, id), trafegada como texto opaco
+public record AgendaCursor(LocalDateTime dataHora, Long id) {
+
+    // Antes de qualquer agendamento na ordem decrescente
+    public static final AgendaCursor INICIO = new AgendaCursor(LocalDateTime.of(9999, 12, 31, 23, 59, 59), Long.MAX_VALUE);
+
+    public String codificar() {
+        String valor = dataHora + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(valor.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static AgendaCursor decodificar(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return INICIO;
+        }
+
+        try {
+            String valor = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separador = valor.lastIndexOf('|');
+            return new AgendaCursor(
+                    LocalDateTime.parse(valor.substring(0, separador)),
+                    Long.parseLong(valor.substring(separador + 1)));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+            throw new IllegalArgumentException("Cursor de paginação inválido");
+        }
+    }
+}
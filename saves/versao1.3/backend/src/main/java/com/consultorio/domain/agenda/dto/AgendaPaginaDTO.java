@@ -0,0 +1,13 @@
+// AgendaPaginaDTO.java
+package com.consultorio.domain.agenda.dto;
+
+import lombok.Builder;
+
+import java.util.List;
+
+@Builder
+public record AgendaPaginaDTO(
+        List<AgendaListDTO> itens,
+        String proximoCursor,
+        boolean temMais
+) {}
@@ -0,0 +1,46 @@
+// AgendaRecorrenteRequestDTO.java
+package com.consultorio.domain.agenda.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import jakarta.validation.constraints.Email;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import lombok.Builder;
+
+import java.time.LocalDateTime;
+
+// Ex.: toda terça às 14:00 por 12 semanas -> primeiraDataHora na terça, intervaloDias = 7, sessoes = 12
+@Builder
+public record AgendaRecorrenteRequestDTO(
+        Long pacienteId,
+
+        String pacienteNome,
+
+        @NotNull(message = "ID do dentista é obrigatório")
+        Long dentistaId,
+
+        @NotNull(message = "Data e hora da primeira sessão são obrigatórias")
+        @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm")
+        LocalDateTime primeiraDataHora,
+
+        @Positive(message = "Intervalo deve ser maior que zero")
+        @Max(value = 90, message = "Intervalo deve ser no máximo 90 dias")
+        Integer intervaloDias,
+
+        @NotNull(message = "Quantidade de sessões é obrigatória")
+        @Positive(message = "Quantidade de sessões deve ser maior que zero")
+        @Max(value = 52, message = "Quantidade de sessões deve ser no máximo 52")
+        Integer sessoes,
+
+        String observacoes,
+
+        String telefone,
+
+        @Email(message = "Email deve ser válido")
+        String email,
+
+        @Positive(message = "Duração deve ser maior que zero")
+        @Max(value = 480, message = "Duração deve ser no máximo 480 minutos")
+        Integer duracaoMinutos
+) {}
@@ -0,0 +1,13 @@
+// AgendaRecorrenteResponseDTO.java
+package com.consultorio.domain.agenda.dto;
+
+import lombok.Builder;
+
+import java.util.List;
+
+@Builder
+public record AgendaRecorrenteResponseDTO(
+        int agendadas,
+        int conflitos,
+        List<SessaoRecorrenteDTO> sessoes
+) {}
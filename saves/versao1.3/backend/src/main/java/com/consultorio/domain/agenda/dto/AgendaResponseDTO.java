@@ -18,6 +18,9 @@ public record AgendaResponseDTO(
         @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm")
         LocalDateTime dataHora,
 
+        @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm")
+        LocalDateTime dataHoraFim,
+
         Agenda.StatusAgendamento status,
         String observacoes,
         String telefone,
@@ -3,7 +3,9 @@ package com.consultorio.domain.agenda.dto;
 
 import com.fasterxml.jackson.annotation.JsonFormat;
 import jakarta.validation.constraints.Email;
+import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
 import lombok.Builder;
 
 import java.time.LocalDateTime;
@@ -23,5 +25,10 @@ public record AgendaUpdateDTO(
         String telefone,
 
         @Email(message = "Email deve ser válido")
-        String email
+        String email,
+
+        // Opcional: sem duração informada vale o slot da jornada do dentista
+        @Positive(message = "Duração deve ser maior que zero")
+        @Max(value = 480, message = "Duração deve ser no máximo 480 minutos")
+        Integer duracaoMinutos
 ) {}
\ No newline at end of file
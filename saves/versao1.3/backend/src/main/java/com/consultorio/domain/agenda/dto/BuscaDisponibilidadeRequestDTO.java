@@ -0,0 +1,42 @@
+// BuscaDisponibilidadeRequestDTO.java
+package com.consultorio.domain.agenda.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import lombok.Builder;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+
+@Builder
+public record BuscaDisponibilidadeRequestDTO(
+        @NotEmpty(message = "Informe ao menos um dentista")
+        List<Long> dentistaIds,
+
+        @NotNull(message = "Data inicial é obrigatória")
+        @JsonFormat(pattern = "yyyy-MM-dd")
+        LocalDate dataInicio,
+
+        @NotNull(message = "Data final é obrigatória")
+        @JsonFormat(pattern = "yyyy-MM-dd")
+        LocalDate dataFim,
+
+        @NotNull(message = "Hora inicial é obrigatória")
+        @JsonFormat(pattern = "HH:mm")
+        LocalTime horaInicio,
+
+        @NotNull(message = "Hora final é obrigatória")
+        @JsonFormat(pattern = "HH:mm")
+        LocalTime horaFim,
+
+        @Positive(message = "Quantidade deve ser maior que zero")
+        @Max(value = 200, message = "Quantidade deve ser no máximo 200")
+        Integer quantidade,
+
+        // Opcional: usa a duração cadastrada para o procedimento na jornada do dentista
+        String procedimento
+) {}
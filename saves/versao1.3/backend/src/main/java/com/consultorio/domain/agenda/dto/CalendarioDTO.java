@@ -0,0 +1,24 @@
+// CalendarioDTO.java
+package com.consultorio.domain.agenda.dto;
+
+import com.consultorio.domain.agenda.Agenda;
+import com.fasterxml.jackson.annotation.JsonFormat;
+import lombok.Builder;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+
+// Índices de dias/slots e códigos de status dos dentistas apontam para as listas abaixo
+@Builder
+public record CalendarioDTO(
+        @JsonFormat(pattern = "yyyy-MM-dd")
+        List<LocalDate> dias,
+
+        @JsonFormat(pattern = "HH:mm")
+        List<LocalTime> horarios,
+
+        List<Agenda.StatusAgendamento> codigosStatus,
+
+        List<CalendarioDentistaDTO> dentistas
+) {}
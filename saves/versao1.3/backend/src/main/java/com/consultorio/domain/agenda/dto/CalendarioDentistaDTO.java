@@ -0,0 +1,21 @@
+// CalendarioDentistaDTO.java
+package com.consultorio.domain.agenda.dto;
+
+import lombok.Builder;
+
+import java.util.List;
+
+// Colunas paralelas: o i-ésimo agendamento é (agendamentoIds[i], dias[i], slots[i], status[i], pacientes[i]).
+// slots[i] é o primeiro slot visível do agendamento. grade tem uma string por dia com um caractere por slot:
+// '.' livre, ou o código do status em todos os slots que o agendamento cobre.
+@Builder(toBuilder = true)
+public record CalendarioDentistaDTO(
+        Long dentistaId,
+        String dentistaNome,
+        List<String> grade,
+        List<Long> agendamentoIds,
+        List<Integer> dias,
+        List<Integer> slots,
+        List<Integer> status,
+        List<String> pacientes
+) {}
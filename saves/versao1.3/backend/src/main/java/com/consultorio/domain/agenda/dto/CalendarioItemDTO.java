@@ -0,0 +1,16 @@
+// CalendarioItemDTO.java
+package com.consultorio.domain.agenda.dto;
+
+import com.consultorio.domain.agenda.Agenda;
+
+import java.time.LocalDateTime;
+
+// Projeção JPQL do calendário: só as colunas exibidas na grade (o fim marca todos os slots ocupados)
+public record CalendarioItemDTO(
+        Long id,
+        Long dentistaId,
+        LocalDateTime dataHora,
+        LocalDateTime dataHoraFim,
+        Agenda.StatusAgendamento status,
+        String pacienteNome
+) {}
@@ -23,5 +23,8 @@ public record DisponibilidadeRequestDTO(
 
         @NotNull(message = "Hora final é obrigatória")
         @JsonFormat(pattern = "HH:mm")
-        LocalTime horaFim
+        LocalTime horaFim,
+
+        // Opcional: usa a duração cadastrada para o procedimento na jornada do dentista
+        String procedimento
 ) {}
\ No newline at end of file
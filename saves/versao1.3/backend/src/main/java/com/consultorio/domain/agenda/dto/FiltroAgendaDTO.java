@@ -0,0 +1,40 @@
+// FiltroAgendaDTO.java
+package com.consultorio.domain.agenda.dto;
+
+import com.consultorio.domain.agenda.Agenda;
+import com.consultorio.domain.agenda.exception.FiltroAgendaInvalidoException;
+
+import java.util.Objects;
+import java.util.stream.Stream;
+
+// Filtro das listagens: no máximo um critério é informado. Não há consulta que combine critérios, então
+// a combinação é recusada (400) em vez de aplicar só o primeiro; no streaming isso acontece antes do
+// corpo da resposta começar a ser escrito
+public record FiltroAgendaDTO(
+        Long dentistaId,
+        Long pacienteId,
+        Agenda.StatusAgendamento status
+) {
+    public FiltroAgendaDTO {
+        if (Stream.of(dentistaId, pacienteId, status).filter(Objects::nonNull).count() > 1) {
+            throw new FiltroAgendaInvalidoException(
+                    "Informe no máximo um critério entre dentistaId, pacienteId e status");
+        }
+    }
+
+    public static FiltroAgendaDTO todos() {
+        return new FiltroAgendaDTO(null, null, null);
+    }
+
+    public static FiltroAgendaDTO porDentista(Long dentistaId) {
+        return new FiltroAgendaDTO(dentistaId, null, null);
+    }
+
+    public static FiltroAgendaDTO porPaciente(Long pacienteId) {
+        return new FiltroAgendaDTO(null, pacienteId, null);
+    }
+
+    public static FiltroAgendaDTO porStatus(Agenda.StatusAgendamento status) {
+        return new FiltroAgendaDTO(null, null, status);
+    }
+}
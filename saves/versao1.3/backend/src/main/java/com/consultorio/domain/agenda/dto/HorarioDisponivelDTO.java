@@ -0,0 +1,16 @@
+// HorarioDisponivelDTO.java
+package com.consultorio.domain.agenda.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import lombok.Builder;
+
+import java.time.LocalDateTime;
+
+@Builder
+public record HorarioDisponivelDTO(
+        Long dentistaId,
+        String dentistaNome,
+
+        @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm")
+        LocalDateTime dataHora
+) {}
@@ -0,0 +1,11 @@
+// HorarioOcupadoDTO.java
+package com.consultorio.domain.agenda.dto;
+
+import java.time.LocalDateTime;
+
+// Projeção usada nas consultas por período: apenas dentista, início e fim
+public record HorarioOcupadoDTO(
+        Long dentistaId,
+        LocalDateTime dataHora,
+        LocalDateTime dataHoraFim
+) {}
@@ -0,0 +1,19 @@
+// SessaoRecorrenteDTO.java
+package com.consultorio.domain.agenda.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import lombok.Builder;
+
+import java.time.LocalDateTime;
+
+@Builder
+public record SessaoRecorrenteDTO(
+        @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm")
+        LocalDateTime dataHora,
+
+        boolean agendada,
+
+        Long agendamentoId,
+
+        String motivo
+) {}
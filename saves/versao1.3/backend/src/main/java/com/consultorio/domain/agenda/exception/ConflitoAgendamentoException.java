@@ -1,6 +1,10 @@
 // ConflitoAgendamentoException.java
 package com.consultorio.domain.agenda.exception;
 
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.CONFLICT)
 public class ConflitoAgendamentoException extends RuntimeException {
     public ConflitoAgendamentoException(String message) {
         super(message);
@@ -0,0 +1,12 @@
+// FiltroAgendaInvalidoException.java
+package com.consultorio.domain.agenda.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.BAD_REQUEST)
+public class FiltroAgendaInvalidoException extends RuntimeException {
+    public FiltroAgendaInvalidoException(String message) {
+        super(message);
+    }
+}
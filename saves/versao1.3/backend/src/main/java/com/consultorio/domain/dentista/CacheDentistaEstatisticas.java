@@ -0,0 +1,64 @@
+// CacheDentistaEstatisticas.java
+package com.consultorio.domain.dentista;
+
+import com.consultorio.domain.dentista.dto.CacheEstatisticasDTO;
+import com.consultorio.domain.dentista.dto.RegiaoCacheDTO;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+// Acertos e falhas do cache de segundo nível (hibernate.generate_statistics), por região de Dentista
+@Component
+public class CacheDentistaEstatisticas {
+
+    private final Statistics estatisticas;
+
+    public CacheDentistaEstatisticas(EntityManagerFactory entityManagerFactory) {
+        this.estatisticas = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    public CacheEstatisticasDTO obter() {
+        List<RegiaoCacheDTO> regioes = List.of(
+                regiao(Dentista.REGIAO_CACHE, estatisticas.getDomainDataRegionStatistics(Dentista.REGIAO_CACHE)),
+                regiao(Dentista.REGIAO_CACHE_COLECOES, estatisticas.getDomainDataRegionStatistics(Dentista.REGIAO_CACHE_COLECOES)),
+                // A região de consultas só existe depois da primeira execução de findByAtivoTrue
+                regiao(Dentista.REGIAO_CACHE_ATIVOS, estatisticas.getQueryRegionStatistics(Dentista.REGIAO_CACHE_ATIVOS))
+        );
+
+        long acertos = estatisticas.getSecondLevelCacheHitCount();
+        long falhas = estatisticas.getSecondLevelCacheMissCount();
+
+        return CacheEstatisticasDTO.builder()
+                .estatisticasHabilitadas(estatisticas.isStatisticsEnabled())
+                .acertos(acertos)
+                .falhas(falhas)
+                .insercoes(estatisticas.getSecondLevelCachePutCount())
+                .taxaAcerto(taxaAcerto(acertos, falhas))
+                .acertosConsultas(estatisticas.getQueryCacheHitCount())
+                .falhasConsultas(estatisticas.getQueryCacheMissCount())
+                .regioes(regioes)
+                .build();
+    }
+
+    private static RegiaoCacheDTO regiao(String nome, CacheRegionStatistics regiao) {
+        if (regiao == null) {
+            return RegiaoCacheDTO.builder().regiao(nome).build();
+        }
+        return RegiaoCacheDTO.builder()
+                .regiao(nome)
+                .acertos(regiao.getHitCount())
+                .falhas(regiao.getMissCount())
+                .insercoes(regiao.getPutCount())
+                .taxaAcerto(taxaAcerto(regiao.getHitCount(), regiao.getMissCount()))
+                .build();
+    }
+
+    private static double taxaAcerto(long acertos, long falhas) {
+        long total = acertos + falhas;
+        return total == 0 ? 0.0 : (double) acertos / total;
+    }
+}
@@ -3,9 +3,22 @@ package com.consultorio.domain.dentista;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+// Lido em quase toda operação de agenda e alterado raramente: fica no cache de segundo nível
 @Entity
 @Table(name = "dentistas")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = Dentista.REGIAO_CACHE)
 @Getter
 @Setter
 @NoArgsConstructor
@@ -13,8 +26,13 @@ import lombok.*;
 @Builder
 public class Dentista {
 
+    public static final String REGIAO_CACHE = "dentistas";
+    public static final String REGIAO_CACHE_COLECOES = "dentistas-colecoes";
+    public static final String REGIAO_CACHE_ATIVOS = "dentistas-ativos";
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "dentistas_seq")
+    @SequenceGenerator(name = "dentistas_seq", sequenceName = "dentistas_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = true)
@@ -33,6 +51,38 @@ public class Dentista {
     @Builder.Default
     private Boolean ativo = true;
 
+    // ========== JORNADA (ver JornadaCompilada) ==========
+
+    @Column(name = "duracao_slot_minutos")
+    private Integer duracaoSlotMinutos;
+
+    @Builder.Default
+    @ElementCollection
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = REGIAO_CACHE_COLECOES)
+    @CollectionTable(name = "dentista_expediente", joinColumns = @JoinColumn(name = "dentista_id"))
+    private List<PeriodoJornada> jornada = new ArrayList<>();
+
+    @Builder.Default
+    @ElementCollection
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = REGIAO_CACHE_COLECOES)
+    @CollectionTable(name = "dentista_pausas", joinColumns = @JoinColumn(name = "dentista_id"))
+    private List<PeriodoJornada> pausas = new ArrayList<>();
+
+    @Builder.Default
+    @ElementCollection
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = REGIAO_CACHE_COLECOES)
+    @CollectionTable(name = "dentista_folgas", joinColumns = @JoinColumn(name = "dentista_id"))
+    @Column(name = "data", nullable = false)
+    private Set<LocalDate> folgas = new HashSet<>();
+
+    @Builder.Default
+    @ElementCollection
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = REGIAO_CACHE_COLECOES)
+    @CollectionTable(name = "dentista_duracoes_procedimento", joinColumns = @JoinColumn(name = "dentista_id"))
+    @MapKeyColumn(name = "procedimento")
+    @Column(name = "duracao_minutos", nullable = false)
+    private Map<String, Integer> duracoesProcedimento = new HashMap<>();
+
     public Dentista(Long id) {
         this.id = id;
     }
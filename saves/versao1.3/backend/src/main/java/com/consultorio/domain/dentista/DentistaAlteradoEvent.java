@@ -0,0 +1,14 @@
+// DentistaAlteradoEvent.java
+package com.consultorio.domain.dentista;
+
+// Publicado na atualização e na exclusão de um dentista; nomeAtual é nulo quando o dentista foi excluído
+public record DentistaAlteradoEvent(Long dentistaId, String nomeAnterior, String nomeAtual) {
+
+    public boolean isExclusao() {
+        return nomeAtual == null;
+    }
+
+    public boolean isNomeAlterado() {
+        return !isExclusao() && !nomeAtual.equals(nomeAnterior);
+    }
+}
@@ -16,9 +16,14 @@ import java.util.List;
 public class DentistaController {
 
     private final DentistaService service;
+    private final JornadaService jornadaService;
+    private final CacheDentistaEstatisticas cacheEstatisticas;
 
-    public DentistaController(DentistaService service) {
+    public DentistaController(DentistaService service, JornadaService jornadaService,
+                              CacheDentistaEstatisticas cacheEstatisticas) {
         this.service = service;
+        this.jornadaService = jornadaService;
+        this.cacheEstatisticas = cacheEstatisticas;
     }
 
     @PostMapping
@@ -41,6 +46,11 @@ public class DentistaController {
         return ResponseEntity.ok(service.listarAtivos());
     }
 
+    @GetMapping("/cache/estatisticas")
+    public ResponseEntity<CacheEstatisticasDTO> estatisticasCache() {
+        return ResponseEntity.ok(cacheEstatisticas.obter());
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<DentistaResponseDTO> buscarPorId(@PathVariable Long id) {
         return ResponseEntity.ok(service.buscarPorId(id));
@@ -53,6 +63,18 @@ public class DentistaController {
         return ResponseEntity.ok(service.atualizar(id, dto));
     }
 
+    @GetMapping("/{id}/jornada")
+    public ResponseEntity<JornadaDTO> buscarJornada(@PathVariable Long id) {
+        return ResponseEntity.ok(jornadaService.buscar(id));
+    }
+
+    @PutMapping("/{id}/jornada")
+    public ResponseEntity<JornadaDTO> atualizarJornada(
+            @PathVariable Long id,
+            @Valid @RequestBody JornadaDTO dto) {
+        return ResponseEntity.ok(jornadaService.atualizar(id, dto));
+    }
+
     @DeleteMapping("/{id}")
     public ResponseEntity<Void> deletar(@PathVariable Long id) {
         service.deletar(id);
@@ -1,8 +1,11 @@
 // DentistaRepository.java
 package com.consultorio.domain.dentista;
 
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
@@ -14,13 +17,23 @@ public interface DentistaRepository extends JpaRepository<Dentista, Long> {
 
     Optional<Dentista> findByCro(String cro);
     Optional<Dentista> findByEmail(String email);
+
+    // Cache de consultas: o Hibernate descarta o resultado a cada escrita na tabela dentistas
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = Dentista.REGIAO_CACHE_ATIVOS)
+    })
     List<Dentista> findByAtivoTrue();
+
     List<Dentista> findByAtivoFalse();
     List<Dentista> findByEspecialidadeContainingIgnoreCase(String especialidade);
 
     @Query("SELECT d FROM Dentista d WHERE LOWER(d.nome) LIKE LOWER(CONCAT('%', :nome, '%')) AND d.ativo = true")
     List<Dentista> findByNomeContainingIgnoreCaseAndAtivo(@Param("nome") String nome);
 
+    @Query("SELECT d.nome FROM Dentista d WHERE d.id = :id")
+    Optional<String> findNomeById(@Param("id") Long id);
+
     boolean existsByCro(String cro);
     boolean existsByEmail(String email);
     boolean existsByCroAndIdNot(String cro, Long id);
@@ -4,6 +4,7 @@ package com.consultorio.domain.dentista;
 import com.consultorio.domain.dentista.dto.*;
 import com.consultorio.domain.dentista.exception.DentistaDuplicadoException;
 import com.consultorio.domain.dentista.exception.DentistaNotFoundException;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -14,10 +15,13 @@ public class DentistaService {
 
     private final DentistaRepository repo;
     private final DentistaConverter converter;
+    private final ApplicationEventPublisher eventPublisher;
 
-    public DentistaService(DentistaRepository repo, DentistaConverter converter) {
+    public DentistaService(DentistaRepository repo, DentistaConverter converter,
+                           ApplicationEventPublisher eventPublisher) {
         this.repo = repo;
         this.converter = converter;
+        this.eventPublisher = eventPublisher;
     }
 
     @Transactional
@@ -52,9 +56,12 @@ public class DentistaService {
                 .orElseThrow(() -> new DentistaNotFoundException("Dentista não encontrado com ID: " + id));
 
         validarDuplicados(dto, id);
+        String nomeAnterior = dentista.getNome();
         converter.fromUpdate(dto).updateEntity(dentista);
 
-        return converter.fromEntity(repo.save(dentista)).toResponse();
+        Dentista atualizado = repo.save(dentista);
+        eventPublisher.publishEvent(new DentistaAlteradoEvent(id, nomeAnterior, atualizado.getNome()));
+        return converter.fromEntity(atualizado).toResponse();
     }
 
     @Transactional
@@ -63,6 +70,7 @@ public class DentistaService {
             throw new DentistaNotFoundException("Dentista não encontrado com ID: " + id);
         }
         repo.deleteById(id);
+        eventPublisher.publishEvent(new DentistaAlteradoEvent(id, null, null));
     }
 
     @Transactional
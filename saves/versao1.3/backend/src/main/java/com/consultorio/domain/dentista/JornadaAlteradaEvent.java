@@ -0,0 +1,4 @@
+// JornadaAlteradaEvent.java
+package com.consultorio.domain.dentista;
+
+public record JornadaAlteradaEvent(Long dentistaId) {}
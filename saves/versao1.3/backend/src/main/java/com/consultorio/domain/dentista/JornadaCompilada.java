@@ -0,0 +1,176 @@
+// JornadaCompilada.java
+package com.consultorio.domain.dentista;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Jornada de um dentista pré-processada para consultas em memória.
+ * Para cada dia da semana guarda os intervalos [inicio, fim) de atendimento em minutos do dia,
+ * ordenados, disjuntos e já sem as pausas. Imutável: é recompilada quando a jornada muda.
+ */
+public final class JornadaCompilada {
+
+    public static final int DURACAO_SLOT_PADRAO_MINUTOS = 30;
+
+    private static final int MINUTOS_NO_DIA = 24 * 60;
+    private static final LocalTime INICIO_EXPEDIENTE_PADRAO = LocalTime.of(8, 0);
+    private static final LocalTime FIM_EXPEDIENTE_PADRAO = LocalTime.of(18, 0);
+
+    private final int duracaoSlot;
+    private final Map<DayOfWeek, int[][]> expediente;
+    private final Set<LocalDate> folgas;
+    private final Map<String, Integer> duracoesProcedimento;
+
+    private JornadaCompilada(int duracaoSlot, Map<DayOfWeek, int[][]> expediente,
+                             Set<LocalDate> folgas, Map<String, Integer> duracoesProcedimento) {
+        this.duracaoSlot = duracaoSlot;
+        this.expediente = expediente;
+        this.folgas = folgas;
+        this.duracoesProcedimento = duracoesProcedimento;
+    }
+
+    // Sem expediente cadastrado vale o horário comercial: segunda a sexta, 8h-18h
+    public static JornadaCompilada compilar(Dentista dentista) {
+        List<PeriodoJornada> periodos = dentista.getJornada() == null || dentista.getJornada().isEmpty()
+                ? expedientePadrao()
+                : dentista.getJornada();
+        List<PeriodoJornada> pausas = dentista.getPausas() != null ? dentista.getPausas() : List.of();
+
+        Map<DayOfWeek, int[][]> expediente = new EnumMap<>(DayOfWeek.class);
+        for (DayOfWeek dia : DayOfWeek.values()) {
+            int[][] intervalos = subtrair(unir(minutos(periodos, dia)), unir(minutos(pausas, dia)));
+            if (intervalos.length > 0) {
+                expediente.put(dia, intervalos);
+            }
+        }
+
+        Map<String, Integer> duracoes = new HashMap<>();
+        if (dentista.getDuracoesProcedimento() != null) {
+            dentista.getDuracoesProcedimento()
+                    .forEach((procedimento, minutos) -> duracoes.put(normalizarProcedimento(procedimento), minutos));
+        }
+
+        return new JornadaCompilada(
+                dentista.getDuracaoSlotMinutos() != null ? dentista.getDuracaoSlotMinutos() : DURACAO_SLOT_PADRAO_MINUTOS,
+                expediente,
+                dentista.getFolgas() != null ? Set.copyOf(dentista.getFolgas()) : Set.of(),
+                Map.copyOf(duracoes));
+    }
+
+    public static String normalizarProcedimento(String procedimento) {
+        return procedimento == null ? null : procedimento.trim().toLowerCase(Locale.ROOT);
+    }
+
+    // ========== CONSULTAS ==========
+
+    public int duracaoSlot() {
+        return duracaoSlot;
+    }
+
+    public int duracao(String procedimento) {
+        if (procedimento == null || procedimento.isBlank()) {
+            return duracaoSlot;
+        }
+        return duracoesProcedimento.getOrDefault(normalizarProcedimento(procedimento), duracaoSlot);
+    }
+
+    public boolean atendeEm(LocalDate data) {
+        return !folgas.contains(data) && expediente.containsKey(data.getDayOfWeek());
+    }
+
+    // Inícios em que um atendimento de 'duracao' minutos cabe inteiro no expediente e em [de, ate).
+    // Os horários avançam de duracaoSlot em duracaoSlot a partir do início de cada período.
+    public List<LocalTime> horarios(LocalDate data, LocalTime de, LocalTime ate, int duracao) {
+        if (!atendeEm(data)) {
+            return List.of();
+        }
+
+        int limiteInicio = de != null ? minutoDoDia(de) : 0;
+        int limiteFim = ate != null ? minutoDoDia(ate) : MINUTOS_NO_DIA;
+
+        List<LocalTime> horarios = new ArrayList<>();
+        for (int[] intervalo : expediente.get(data.getDayOfWeek())) {
+            int fim = Math.min(intervalo[1], limiteFim);
+            int inicio = intervalo[0];
+            if (limiteInicio > inicio) {
+                inicio += ((limiteInicio - inicio + duracaoSlot - 1) / duracaoSlot) * duracaoSlot;
+            }
+
+            for (int minuto = inicio; minuto + duracao <= fim; minuto += duracaoSlot) {
+                horarios.add(LocalTime.of(minuto / 60, minuto % 60));
+            }
+        }
+        return horarios;
+    }
+
+    // ========== MÉTODOS PRIVADOS ==========
+
+    private static List<PeriodoJornada> expedientePadrao() {
+        List<PeriodoJornada> periodos = new ArrayList<>();
+        for (DayOfWeek dia = DayOfWeek.MONDAY; dia != DayOfWeek.SATURDAY; dia = dia.plus(1)) {
+            periodos.add(new PeriodoJornada(dia, INICIO_EXPEDIENTE_PADRAO, FIM_EXPEDIENTE_PADRAO));
+        }
+        return periodos;
+    }
+
+    private static int minutoDoDia(LocalTime hora) {
+        return hora.getHour() * 60 + hora.getMinute();
+    }
+
+    private static List<int[]> minutos(List<PeriodoJornada> periodos, DayOfWeek dia) {
+        List<int[]> intervalos = new ArrayList<>();
+        for (PeriodoJornada periodo : periodos) {
+            if (periodo.getDiaSemana() == dia && periodo.getFim().isAfter(periodo.getInicio())) {
+                intervalos.add(new int[]{minutoDoDia(periodo.getInicio()), minutoDoDia(periodo.getFim())});
+            }
+        }
+        return intervalos;
+    }
+
+    // Ordena e funde intervalos sobrepostos ou contíguos
+    private static List<int[]> unir(List<int[]> intervalos) {
+        intervalos.sort(Comparator.comparingInt(intervalo -> intervalo[0]));
+
+        List<int[]> unidos = new ArrayList<>();
+        for (int[] intervalo : intervalos) {
+            int[] ultimo = unidos.isEmpty() ? null : unidos.get(unidos.size() - 1);
+            if (ultimo != null && intervalo[0] <= ultimo[1]) {
+                ultimo[1] = Math.max(ultimo[1], intervalo[1]);
+            } else {
+                unidos.add(new int[]{intervalo[0], intervalo[1]});
+            }
+        }
+        return unidos;
+    }
+
+    // Remove das janelas de atendimento os trechos cobertos pelas pausas (ambas as listas ordenadas e disjuntas)
+    private static int[][] subtrair(List<int[]> janelas, List<int[]> pausas) {
+        List<int[]> resultado = new ArrayList<>();
+        for (int[] janela : janelas) {
+            int inicio = janela[0];
+            for (int[] pausa : pausas) {
+                if (pausa[1] <= inicio || pausa[0] >= janela[1]) {
+                    continue;
+                }
+                if (pausa[0] > inicio) {
+                    resultado.add(new int[]{inicio, pausa[0]});
+                }
+                inicio = Math.max(inicio, pausa[1]);
+            }
+            if (inicio < janela[1]) {
+                resultado.add(new int[]{inicio, janela[1]});
+            }
+        }
+        return resultado.toArray(new int[0][]);
+    }
+}
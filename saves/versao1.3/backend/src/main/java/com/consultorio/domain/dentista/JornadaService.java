@@ -0,0 +1,162 @@
+// JornadaService.java
+package com.consultorio.domain.dentista;
+
+import com.consultorio.domain.dentista.dto.JornadaDTO;
+import com.consultorio.domain.dentista.dto.PeriodoJornadaDTO;
+import com.consultorio.domain.dentista.exception.DentistaNotFoundException;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Service
+public class JornadaService {
+
+    // Alterações feitas fora desta instância (outro nó, SQL direto) aparecem no máximo depois deste prazo
+    private static final Duration TTL = Duration.ofMinutes(10);
+
+    private final DentistaRepository repo;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate leitura;
+
+    // Jornadas compiladas por dentista, descartadas quando a jornada muda ou o dentista é excluído;
+    // geracao descarta compilações que começaram antes de uma invalidação
+    private final Map<Long, Entrada> compiladas = new ConcurrentHashMap<>();
+    private final AtomicLong geracao = new AtomicLong();
+
+    public JornadaService(DentistaRepository repo, ApplicationEventPublisher eventPublisher,
+                          PlatformTransactionManager transactionManager) {
+        this.repo = repo;
+        this.eventPublisher = eventPublisher;
+        this.leitura = new TransactionTemplate(transactionManager);
+        this.leitura.setReadOnly(true);
+    }
+
+    public JornadaCompilada compilada(Long dentistaId) {
+        long agora = System.nanoTime();
+        Entrada entrada = compiladas.get(dentistaId);
+        if (entrada != null && valida(entrada, agora)) {
+            return entrada.jornada();
+        }
+
+        long geracaoDaCarga = geracao.get();
+        JornadaCompilada carregada = leitura.execute(status -> JornadaCompilada.compilar(buscarDentista(dentistaId)));
+
+        // Conferido sob o lock da chave: uma invalidação que avançar a geração depois disso remove a entrada guardada
+        Entrada guardada = compiladas.compute(dentistaId, (id, atual) -> {
+            if (atual != null && valida(atual, agora)) {
+                return atual;
+            }
+            return geracao.get() == geracaoDaCarga ? new Entrada(carregada, agora) : null;
+        });
+        return guardada != null ? guardada.jornada() : carregada;
+    }
+
+    @Transactional(readOnly = true)
+    public JornadaDTO buscar(Long dentistaId) {
+        Dentista dentista = buscarDentista(dentistaId);
+
+        return JornadaDTO.builder()
+                .duracaoSlotMinutos(dentista.getDuracaoSlotMinutos())
+                .expediente(toDTOList(dentista.getJornada()))
+                .pausas(toDTOList(dentista.getPausas()))
+                .folgas(new HashSet<>(dentista.getFolgas()))
+                .duracoesProcedimento(new HashMap<>(dentista.getDuracoesProcedimento()))
+                .build();
+    }
+
+    @Transactional
+    public JornadaDTO atualizar(Long dentistaId, JornadaDTO dto) {
+        Dentista dentista = buscarDentista(dentistaId);
+
+        List<PeriodoJornada> expediente = toEntityList(dto.expediente());
+        List<PeriodoJornada> pausas = toEntityList(dto.pausas());
+
+        dentista.setDuracaoSlotMinutos(dto.duracaoSlotMinutos());
+        dentista.getJornada().clear();
+        dentista.getJornada().addAll(expediente);
+        dentista.getPausas().clear();
+        dentista.getPausas().addAll(pausas);
+        dentista.getFolgas().clear();
+        if (dto.folgas() != null) {
+            dentista.getFolgas().addAll(dto.folgas());
+        }
+        dentista.getDuracoesProcedimento().clear();
+        if (dto.duracoesProcedimento() != null) {
+            dto.duracoesProcedimento().forEach((procedimento, minutos) ->
+                    dentista.getDuracoesProcedimento().put(JornadaCompilada.normalizarProcedimento(procedimento), minutos));
+        }
+
+        repo.save(dentista);
+        eventPublisher.publishEvent(new JornadaAlteradaEvent(dentistaId));
+        return buscar(dentistaId);
+    }
+
+    // ========== INVALIDAÇÃO ==========
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void aoAlterarJornada(JornadaAlteradaEvent evento) {
+        invalidar(evento.dentistaId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void aoAlterarDentista(DentistaAlteradoEvent evento) {
+        if (evento.isExclusao()) {
+            invalidar(evento.dentistaId());
+        }
+    }
+
+    private void invalidar(Long dentistaId) {
+        geracao.incrementAndGet();
+        compiladas.remove(dentistaId);
+    }
+
+    // ========== MÉTODOS PRIVADOS ==========
+
+    private boolean valida(Entrada entrada, long agora) {
+        return agora - entrada.carregadoEm() < TTL.toNanos();
+    }
+
+    private Dentista buscarDentista(Long dentistaId) {
+        return repo.findById(dentistaId)
+                .orElseThrow(() -> new DentistaNotFoundException("Dentista não encontrado com ID: " + dentistaId));
+    }
+
+    private List<PeriodoJornada> toEntityList(List<PeriodoJornadaDTO> periodos) {
+        if (periodos == null) {
+            return List.of();
+        }
+
+        return periodos.stream()
+                .map(periodo -> {
+                    if (!periodo.fim().isAfter(periodo.inicio())) {
+                        throw new IllegalArgumentException(
+                                "Hora final deve ser posterior à hora inicial em " + periodo.diaSemana());
+                    }
+                    return new PeriodoJornada(periodo.diaSemana(), periodo.inicio(), periodo.fim());
+                })
+                .toList();
+    }
+
+    private List<PeriodoJornadaDTO> toDTOList(List<PeriodoJornada> periodos) {
+        return periodos.stream()
+                .map(periodo -> PeriodoJornadaDTO.builder()
+                        .diaSemana(periodo.getDiaSemana())
+                        .inicio(periodo.getInicio())
+                        .fim(periodo.getFim())
+                        .build())
+                .toList();
+    }
+
+    private record Entrada(JornadaCompilada jornada, long carregadoEm) {}
+}
@@ -0,0 +1,28 @@
+// PeriodoJornada.java
+package com.consultorio.domain.dentista;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+
+// Período [inicio, fim) em um dia da semana, usado no expediente e nas pausas do dentista
+@Embeddable
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PeriodoJornada {
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "dia_semana", nullable = false)
+    private DayOfWeek diaSemana;
+
+    @Column(name = "hora_inicio", nullable = false)
+    private LocalTime inicio;
+
+    @Column(name = "hora_fim", nullable = false)
+    private LocalTime fim;
+}
@@ -0,0 +1,19 @@
+// CacheEstatisticasDTO.java
+package com.consultorio.domain.dentista.dto;
+
+import lombok.Builder;
+
+import java.util.List;
+
+// Totais do cache de segundo nível e do cache de consultas desde a inicialização
+@Builder
+public record CacheEstatisticasDTO(
+        boolean estatisticasHabilitadas,
+        long acertos,
+        long falhas,
+        long insercoes,
+        double taxaAcerto,
+        long acertosConsultas,
+        long falhasConsultas,
+        List<RegiaoCacheDTO> regioes
+) {}
@@ -0,0 +1,28 @@
+// JornadaDTO.java
+package com.consultorio.domain.dentista.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Positive;
+import lombok.Builder;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+// Expediente vazio = segunda a sexta, 8h-18h; duracaoSlotMinutos nulo = 30 minutos
+@Builder
+public record JornadaDTO(
+        @Positive(message = "Duração do slot deve ser maior que zero")
+        @Max(value = 480, message = "Duração do slot deve ser no máximo 480 minutos")
+        Integer duracaoSlotMinutos,
+
+        List<@Valid PeriodoJornadaDTO> expediente,
+
+        List<@Valid PeriodoJornadaDTO> pausas,
+
+        Set<LocalDate> folgas,
+
+        Map<String, @Positive(message = "Duração do procedimento deve ser maior que zero") Integer> duracoesProcedimento
+) {}
@@ -0,0 +1,23 @@
+// PeriodoJornadaDTO.java
+package com.consultorio.domain.dentista.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import jakarta.validation.constraints.NotNull;
+import lombok.Builder;
+
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+
+@Builder
+public record PeriodoJornadaDTO(
+        @NotNull(message = "Dia da semana é obrigatório")
+        DayOfWeek diaSemana,
+
+        @NotNull(message = "Hora inicial é obrigatória")
+        @JsonFormat(pattern = "HH:mm")
+        LocalTime inicio,
+
+        @NotNull(message = "Hora final é obrigatória")
+        @JsonFormat(pattern = "HH:mm")
+        LocalTime fim
+) {}
@@ -0,0 +1,13 @@
+// RegiaoCacheDTO.java
+package com.consultorio.domain.dentista.dto;
+
+import lombok.Builder;
+
+@Builder
+public record RegiaoCacheDTO(
+        String regiao,
+        long acertos,
+        long falhas,
+        long insercoes,
+        double taxaAcerto
+) {}
@@ -1,12 +1,23 @@
 package com.consultorio.domain.paciente.DTOs;
 
+import lombok.Builder;
+
 import java.time.LocalDateTime;
 
-// DTO auxiliar para resumo de consultas
-record ConsultaResumoDTO(
+// Resumo de um agendamento no histórico do paciente
+@Builder
+public record ConsultaResumoDTO(
         Long id,
         LocalDateTime dataHora,
+        LocalDateTime dataHoraFim,
+        Long dentistaId,
         String dentistaNome,
-        String procedimento,
-        String status
-) {}
+        String status,
+        String observacoes
+) {
+    // Usado pela projeção JPQL, que entrega o status como o enum de Agenda
+    public ConsultaResumoDTO(Long id, LocalDateTime dataHora, LocalDateTime dataHoraFim, Long dentistaId,
+                             String dentistaNome, Enum<?> status, String observacoes) {
+        this(id, dataHora, dataHoraFim, dentistaId, dentistaNome, status != null ? status.name() : null, observacoes);
+    }
+}
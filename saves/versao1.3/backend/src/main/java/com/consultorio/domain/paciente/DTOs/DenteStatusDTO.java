@@ -0,0 +1,9 @@
+package com.consultorio.domain.paciente.DTOs;
+
+import com.consultorio.domain.paciente.Enums.Dente;
+import com.consultorio.domain.paciente.Enums.StatusPlanoTratamento;
+
+public record DenteStatusDTO(
+        Dente dente,
+        StatusPlanoTratamento status
+) {}
@@ -0,0 +1,14 @@
+package com.consultorio.domain.paciente.DTOs;
+
+import com.consultorio.domain.paciente.Enums.StatusPlanoTratamento;
+import lombok.Builder;
+
+import java.util.List;
+
+// Tamanho fixo: estados.get(i) é o status atual de Dente.values()[i] (mesma ordem de
+// /pacientes/referencias/dentes), nulo quando o dente não tem plano de tratamento
+@Builder
+public record OdontogramaDTO(
+        Long pacienteId,
+        List<StatusPlanoTratamento> estados
+) {}
@@ -0,0 +1,10 @@
+package com.consultorio.domain.paciente.DTOs;
+
+import lombok.Builder;
+
+@Builder
+public record OpcaoReferenciaDTO(
+        String valor,
+        String descricao,
+        String detalhes
+) {}
@@ -0,0 +1,16 @@
+package com.consultorio.domain.paciente.DTOs;
+
+import lombok.Builder;
+
+import java.math.BigDecimal;
+
+// dentistaId e dentistaNome nulos agrupam os orçamentos sem dentista responsável
+@Builder
+public record OrcamentoAbertoDentistaMesDTO(
+        Long dentistaId,
+        String dentistaNome,
+        Integer ano,
+        Integer mes,
+        Long quantidade,
+        BigDecimal valorTotal
+) {}
@@ -0,0 +1,11 @@
+package com.consultorio.domain.paciente.DTOs;
+
+import lombok.Builder;
+
+@Builder
+public record PacienteAutocompleteDTO(
+        Long id,
+        String nome,
+        String cpf,
+        String telefone
+) {}
@@ -1,11 +1,14 @@
 package com.consultorio.domain.paciente.DTOs;
 
 import com.consultorio.domain.paciente.Enums.Dente;
+import jakarta.validation.constraints.Digits;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Positive;
 import lombok.Builder;
 
+import java.math.BigDecimal;
+
 @Builder
 public record PlanoTratamentoCreateComEnumDTO(
         @NotNull(message = "ID do paciente é obrigatório")
@@ -19,11 +22,13 @@ public record PlanoTratamentoCreateComEnumDTO(
 
 
         @Positive(message = "Valor deve ser maior que zero")
-        Double valor,
+        @Digits(integer = 10, fraction = 2, message = "Valor deve ter no máximo 10 dígitos inteiros e 2 decimais")
+        BigDecimal valor,
 
         String observacao,
 
 
         @Positive(message = "Valor total deve ser maior que zero")
-        Double valorTotal
+        @Digits(integer = 10, fraction = 2, message = "Valor total deve ter no máximo 10 dígitos inteiros e 2 decimais")
+        BigDecimal valorTotal
 ) {}
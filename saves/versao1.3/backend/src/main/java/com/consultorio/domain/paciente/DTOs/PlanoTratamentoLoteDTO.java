@@ -0,0 +1,16 @@
+package com.consultorio.domain.paciente.DTOs;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.Builder;
+
+import java.util.List;
+
+// Dentes selecionados no odontograma: um item por par dente/procedimento
+@Builder
+public record PlanoTratamentoLoteDTO(
+        @NotEmpty(message = "Informe ao menos um plano de tratamento")
+        @Size(max = 100, message = "No máximo 100 planos por lote")
+        List<@Valid PlanoTratamentoCreateDTO> planos
+) {}
@@ -3,6 +3,7 @@ package com.consultorio.domain.paciente.DTOs;
 
 import lombok.Builder;
 
+import java.math.BigDecimal;
 import java.util.List;
 
 @Builder
@@ -10,5 +11,5 @@ public record PlanoTratamentoPacienteDTO(
         Long pacienteId,
         String pacienteNome,
         List<PlanoTratamentoResponseDTO> planosTratamento,
-        Double valorTotalGeral
+        BigDecimal valorTotalGeral
 ) {}
\ No newline at end of file
@@ -4,6 +4,7 @@ import com.consultorio.domain.paciente.Enums.Dente;
 import com.consultorio.domain.paciente.Enums.StatusPlanoTratamento;
 import lombok.Builder;
 
+import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
 @Builder
@@ -11,11 +12,12 @@ public record PlanoTratamentoResponseDTO(
         Long id,
         Long pacienteId,
         String pacienteNome,
+        Long dentistaId,
         Dente dente,
         String procedimento,
-        Double valor,
+        BigDecimal valor,
         String observacao,
-        Double valorTotal,
+        BigDecimal valorTotal,
         StatusPlanoTratamento status,
         LocalDateTime dataInicio,
         LocalDateTime dataConclusao,
@@ -2,12 +2,19 @@ package com.consultorio.domain.paciente.DTOs;
 
 import lombok.Builder;
 
+import java.math.BigDecimal;
+import java.util.List;
+
 @Builder
 public record PlanoTratamentoResumoDTO(
+        Long pacienteId,
         Long totalPlanos,
         Long planosAtivos,
         Long planosConcluidos,
-        Double valorTotalAtivos,
-        Double valorTotalConcluidos,
-        String procedimentoMaisComum
-) {}
\ No newline at end of file
+        BigDecimal valorTotal,
+        BigDecimal valorTotalAtivos,
+        BigDecimal valorTotalConcluidos,
+        String procedimentoMaisComum,
+        List<PlanoTratamentoTotalStatusDTO> porStatus,
+        List<PlanoTratamentoTotalDenteDTO> porDente
+) {}
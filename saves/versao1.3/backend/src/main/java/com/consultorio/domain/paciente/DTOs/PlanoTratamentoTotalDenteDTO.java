@@ -0,0 +1,13 @@
+package com.consultorio.domain.paciente.DTOs;
+
+import com.consultorio.domain.paciente.Enums.Dente;
+import lombok.Builder;
+
+import java.math.BigDecimal;
+
+@Builder
+public record PlanoTratamentoTotalDenteDTO(
+        Dente dente,
+        Long quantidade,
+        BigDecimal valorTotal
+) {}
@@ -0,0 +1,13 @@
+package com.consultorio.domain.paciente.DTOs;
+
+import com.consultorio.domain.paciente.Enums.StatusPlanoTratamento;
+import lombok.Builder;
+
+import java.math.BigDecimal;
+
+@Builder
+public record PlanoTratamentoTotalStatusDTO(
+        StatusPlanoTratamento status,
+        Long quantidade,
+        BigDecimal valorTotal
+) {}
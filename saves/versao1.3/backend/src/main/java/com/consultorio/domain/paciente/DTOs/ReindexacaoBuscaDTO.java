@@ -0,0 +1,9 @@
+package com.consultorio.domain.paciente.DTOs;
+
+import lombok.Builder;
+
+@Builder
+public record ReindexacaoBuscaDTO(
+        int processados,
+        int atualizados
+) {}
@@ -50,6 +50,14 @@ public enum StatusPlanoTratamento {
         this.detalhes = detalhes;
     }
 
+    public String getDescricao() {
+        return descricao;
+    }
+
+    public String getDetalhes() {
+        return detalhes;
+    }
+
     // Métodos utilitários
     public boolean isAtivo() {
         return this == ATIVO;
@@ -117,6 +125,18 @@ public enum StatusPlanoTratamento {
         return new StatusPlanoTratamento[]{CONCLUIDO, CANCELADO};
     }
 
+    /**
+     * Retorna os status de orçamentos ainda em aberto (valor aprovado ou não, tratamento não iniciado)
+     */
+    public static StatusPlanoTratamento[] getStatusOrcamentoAberto() {
+        return new StatusPlanoTratamento[]{
+                ORCAMENTO,
+                EM_APROVACAO,
+                AGUARDANDO_PAGAMENTO,
+                AGUARDANDO_INICIO
+        };
+    }
+
     /**
      * Retorna os status que permitem edição
      */
@@ -0,0 +1,133 @@
+package com.consultorio.domain.paciente.busca;
+
+import com.consultorio.domain.paciente.DTOs.PacienteAutocompleteDTO;
+import com.consultorio.domain.paciente.event.PacienteAlteradoEvent;
+import com.consultorio.domain.paciente.repository.PacienteRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// Autocomplete de pacientes em memória: nomes normalizados (a partir de cada palavra) e dígitos do CPF.
+// Carregado na inicialização e mantido pelos PacienteAlteradoEvent; a consulta não acessa o banco
+@Slf4j
+@Component
+public class AutocompletePacientes {
+
+    static final int LIMITE_PADRAO = 10;
+    static final int LIMITE_MAXIMO = 50;
+
+    private final PacienteRepository repository;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private TriePrefixos trie = new TriePrefixos();
+    private Map<Long, PacienteAutocompleteDTO> pacientes = new HashMap<>();
+
+    public AutocompletePacientes(PacienteRepository repository) {
+        this.repository = repository;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void carregar() {
+        List<PacienteAutocompleteDTO> resumos = repository.listarAutocomplete();
+
+        TriePrefixos novaTrie = new TriePrefixos();
+        Map<Long, PacienteAutocompleteDTO> novosPacientes = new HashMap<>(resumos.size() * 2);
+        for (PacienteAutocompleteDTO paciente : resumos) {
+            chaves(paciente).forEach(chave -> novaTrie.inserir(chave, paciente.id()));
+            novosPacientes.put(paciente.id(), paciente);
+        }
+
+        lock.writeLock().lock();
+        try {
+            trie = novaTrie;
+            pacientes = novosPacientes;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("Autocomplete de pacientes carregado com {} pacientes", resumos.size());
+    }
+
+    public List<PacienteAutocompleteDTO> buscar(String termo, Integer limite) {
+        String prefixo = NormalizadorBusca.termo(termo);
+        if (prefixo.isEmpty()) {
+            return List.of();
+        }
+        int tamanho = limite == null ? LIMITE_PADRAO : Math.max(1, Math.min(limite, LIMITE_MAXIMO));
+
+        lock.readLock().lock();
+        try {
+            List<PacienteAutocompleteDTO> resultado = new ArrayList<>();
+            for (Long id : trie.buscar(prefixo, tamanho)) {
+                resultado.add(pacientes.get(id));
+            }
+            return resultado;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Após o commit: o paciente é relido pela projeção, nunca a partir de uma transação desfeita
+    @TransactionalEventListener(fallbackExecution = true)
+    public void atualizar(PacienteAlteradoEvent evento) {
+        if (evento.isExclusao()) {
+            remover(evento.pacienteId());
+            return;
+        }
+
+        repository.buscarAutocompletePorId(evento.pacienteId())
+                .ifPresentOrElse(this::registrar, () -> remover(evento.pacienteId()));
+    }
+
+    private void registrar(PacienteAutocompleteDTO paciente) {
+        lock.writeLock().lock();
+        try {
+            PacienteAutocompleteDTO anterior = pacientes.put(paciente.id(), paciente);
+            if (anterior != null) {
+                chaves(anterior).forEach(chave -> trie.remover(chave, anterior.id()));
+            }
+            chaves(paciente).forEach(chave -> trie.inserir(chave, paciente.id()));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void remover(Long pacienteId) {
+        lock.writeLock().lock();
+        try {
+            PacienteAutocompleteDTO anterior = pacientes.remove(pacienteId);
+            if (anterior != null) {
+                chaves(anterior).forEach(chave -> trie.remover(chave, pacienteId));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // "João da Silva" gera "joao da silva", "da silva" e "silva", para achar também pelo sobrenome
+    private static List<String> chaves(PacienteAutocompleteDTO paciente) {
+        List<String> chaves = new ArrayList<>();
+
+        String nome = NormalizadorBusca.texto(paciente.nome());
+        if (nome != null && !nome.isEmpty()) {
+            chaves.add(nome);
+            for (int i = nome.indexOf(' '); i >= 0; i = nome.indexOf(' ', i + 1)) {
+                chaves.add(nome.substring(i + 1));
+            }
+        }
+
+        String cpf = NormalizadorBusca.digitos(paciente.cpf());
+        if (cpf != null && !cpf.isEmpty()) {
+            chaves.add(cpf);
+        }
+        return chaves;
+    }
+}
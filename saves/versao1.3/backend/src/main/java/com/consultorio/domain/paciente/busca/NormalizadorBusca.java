@@ -0,0 +1,61 @@
+package com.consultorio.domain.paciente.busca;
+
+import java.text.Normalizer;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+// Mesma normalização na gravação (colunas de busca de Paciente) e na consulta:
+// sem acentos, minúsculas e espaços simples, para que "Joao" encontre "João"
+public final class NormalizadorBusca {
+
+    private static final Pattern MARCAS = Pattern.compile("\\p{M}+");
+    private static final Pattern ESPACOS = Pattern.compile("\\s+");
+    private static final Pattern NAO_DIGITOS = Pattern.compile("\\D+");
+
+    private NormalizadorBusca() {
+    }
+
+    public static String texto(String valor) {
+        if (valor == null) {
+            return null;
+        }
+        String semAcentos = MARCAS.matcher(Normalizer.normalize(valor, Normalizer.Form.NFD)).replaceAll("");
+        return ESPACOS.matcher(semAcentos.toLowerCase(Locale.ROOT)).replaceAll(" ").trim();
+    }
+
+    public static String digitos(String valor) {
+        if (valor == null) {
+            return null;
+        }
+        return NAO_DIGITOS.matcher(valor).replaceAll("");
+    }
+
+    // Termo digitado pelo usuário: só dígitos e pontuação (CPF, telefone) compara apenas os dígitos
+    public static String termo(String valor) {
+        if (valor == null) {
+            return "";
+        }
+        boolean temLetra = valor.chars().anyMatch(Character::isLetter);
+        return temLetra ? texto(valor) : digitos(valor);
+    }
+
+    // Nome, dígitos do CPF e do telefone e prontuário em uma única coluna indexada por trigramas
+    public static String termos(String nome, String cpf, String telefone, String prontuario) {
+        StringBuilder termos = new StringBuilder();
+        adicionar(termos, texto(nome));
+        adicionar(termos, digitos(cpf));
+        adicionar(termos, digitos(telefone));
+        adicionar(termos, texto(prontuario));
+        return termos.toString();
+    }
+
+    private static void adicionar(StringBuilder termos, String valor) {
+        if (valor == null || valor.isEmpty()) {
+            return;
+        }
+        if (!termos.isEmpty()) {
+            termos.append(' ');
+        }
+        termos.append(valor);
+    }
+}
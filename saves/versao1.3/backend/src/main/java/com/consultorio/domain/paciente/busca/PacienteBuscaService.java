@@ -0,0 +1,112 @@
+package com.consultorio.domain.paciente.busca;
+
+import com.consultorio.domain.paciente.DTOs.PacienteListDTO;
+import com.consultorio.domain.paciente.DTOs.ReindexacaoBuscaDTO;
+import com.consultorio.domain.paciente.entity.Paciente;
+import com.consultorio.domain.paciente.repository.PacienteRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Objects;
+
+// Busca de pacientes sobre as colunas normalizadas de Paciente. As colunas são recalculadas
+// pelo próprio Paciente ao gravar (criar/atualizar) e somem com a linha ao excluir
+@Slf4j
+@Service
+public class PacienteBuscaService {
+
+    static final int LIMITE_PADRAO = 20;
+    static final int LIMITE_MAXIMO = 100;
+    static final int TAMANHO_LOTE_REINDEXACAO = 500;
+
+    // Abaixo de 3 caracteres não há trigrama completo: busca-se pelo prefixo do nome
+    private static final int TAMANHO_MINIMO_TRIGRAMA = 3;
+
+    private final PacienteRepository repository;
+    private final TransactionTemplate escrita;
+
+    public PacienteBuscaService(PacienteRepository repository, PlatformTransactionManager transactionManager) {
+        this.repository = repository;
+        this.escrita = new TransactionTemplate(transactionManager);
+    }
+
+    @Transactional(readOnly = true)
+    public List<PacienteListDTO> buscar(String termo, Integer limite) {
+        String normalizado = NormalizadorBusca.termo(termo);
+        if (normalizado.isEmpty()) {
+            return List.of();
+        }
+
+        int tamanho = limite == null ? LIMITE_PADRAO : Math.max(1, Math.min(limite, LIMITE_MAXIMO));
+        Pageable pagina = PageRequest.of(0, tamanho);
+
+        if (normalizado.length() < TAMANHO_MINIMO_TRIGRAMA) {
+            return repository.buscarResumosPorPrefixo(normalizado, pagina);
+        }
+        return repository.buscarResumosPorTermo(normalizado, pagina);
+    }
+
+    // Recalcula as colunas de busca de todos os pacientes, um lote por transação
+    public ReindexacaoBuscaDTO reindexar() {
+        log.info("Reindexando busca de pacientes");
+
+        int processados = 0;
+        int atualizados = 0;
+        long ultimoId = 0L;
+
+        while (true) {
+            long aposId = ultimoId;
+            LoteReindexado lote = escrita.execute(status -> reindexarLote(aposId));
+            if (lote == null || lote.processados() == 0) {
+                break;
+            }
+            processados += lote.processados();
+            atualizados += lote.atualizados();
+            ultimoId = lote.ultimoId();
+        }
+
+        log.info("Busca de pacientes reindexada - processados: {}, atualizados: {}", processados, atualizados);
+        return ReindexacaoBuscaDTO.builder()
+                .processados(processados)
+                .atualizados(atualizados)
+                .build();
+    }
+
+    // Pacientes gravados antes das colunas de busca existirem
+    @EventListener(ApplicationReadyEvent.class)
+    public void reindexarPendentes() {
+        if (repository.existsByNomeNormalizadoIsNull()) {
+            reindexar();
+        }
+    }
+
+    private LoteReindexado reindexarLote(long aposId) {
+        List<Paciente> pacientes = repository.findByIdGreaterThanOrderById(
+                aposId, PageRequest.of(0, TAMANHO_LOTE_REINDEXACAO));
+
+        int atualizados = 0;
+        for (Paciente paciente : pacientes) {
+            String nomeAnterior = paciente.getNomeNormalizado();
+            String termosAnteriores = paciente.getTermosBusca();
+            paciente.atualizarTermosBusca();
+            if (!Objects.equals(nomeAnterior, paciente.getNomeNormalizado())
+                    || !Objects.equals(termosAnteriores, paciente.getTermosBusca())) {
+                atualizados++;
+            }
+        }
+
+        long ultimoId = pacientes.isEmpty() ? aposId : pacientes.get(pacientes.size() - 1).getId();
+        return new LoteReindexado(pacientes.size(), atualizados, ultimoId);
+    }
+
+    private record LoteReindexado(int processados, int atualizados, long ultimoId) {
+    }
+}
@@ -0,0 +1,149 @@
+package com.consultorio.domain.paciente.busca;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeMap;
+
+// Árvore de prefixos compactada (radix): cada aresta guarda um trecho da chave e só se divide
+// quando duas chaves divergem. Não é thread-safe; AutocompletePacientes controla o acesso
+final class TriePrefixos {
+
+    private final No raiz = new No("");
+
+    void inserir(String chave, Long id) {
+        No no = raiz;
+        int posicao = 0;
+
+        while (true) {
+            if (posicao == chave.length()) {
+                no.ids.add(id);
+                return;
+            }
+
+            char inicial = chave.charAt(posicao);
+            No filho = no.filhos.get(inicial);
+            if (filho == null) {
+                No novo = new No(chave.substring(posicao));
+                novo.ids.add(id);
+                no.filhos.put(inicial, novo);
+                return;
+            }
+
+            int comum = prefixoComum(filho.rotulo, chave, posicao);
+            if (comum < filho.rotulo.length()) {
+                // Divide a aresta no ponto de divergência
+                No meio = new No(filho.rotulo.substring(0, comum));
+                filho.rotulo = filho.rotulo.substring(comum);
+                meio.filhos.put(filho.rotulo.charAt(0), filho);
+                no.filhos.put(inicial, meio);
+                filho = meio;
+            }
+
+            no = filho;
+            posicao += comum;
+        }
+    }
+
+    void remover(String chave, Long id) {
+        remover(raiz, chave, 0, id);
+    }
+
+    // Até limite IDs cujas chaves começam com o prefixo, em ordem alfabética das chaves
+    List<Long> buscar(String prefixo, int limite) {
+        No no = raiz;
+        int posicao = 0;
+
+        while (posicao < prefixo.length()) {
+            No filho = no.filhos.get(prefixo.charAt(posicao));
+            if (filho == null) {
+                return List.of();
+            }
+
+            int restante = prefixo.length() - posicao;
+            if (restante <= filho.rotulo.length()) {
+                if (!filho.rotulo.startsWith(prefixo.substring(posicao))) {
+                    return List.of();
+                }
+                no = filho;
+                break;
+            }
+            if (!prefixo.startsWith(filho.rotulo, posicao)) {
+                return List.of();
+            }
+
+            no = filho;
+            posicao += filho.rotulo.length();
+        }
+
+        return coletar(no, limite);
+    }
+
+    private List<Long> coletar(No inicio, int limite) {
+        Set<Long> encontrados = new LinkedHashSet<>();
+        Deque<No> pendentes = new ArrayDeque<>();
+        pendentes.push(inicio);
+
+        while (!pendentes.isEmpty() && encontrados.size() < limite) {
+            No no = pendentes.pop();
+            for (Long id : no.ids) {
+                encontrados.add(id);
+                if (encontrados.size() == limite) {
+                    break;
+                }
+            }
+            // Empilha em ordem inversa para visitar os filhos em ordem alfabética
+            for (No filho : no.filhos.descendingMap().values()) {
+                pendentes.push(filho);
+            }
+        }
+
+        return new ArrayList<>(encontrados);
+    }
+
+    private void remover(No no, String chave, int posicao, Long id) {
+        if (posicao == chave.length()) {
+            no.ids.remove(id);
+            return;
+        }
+
+        char inicial = chave.charAt(posicao);
+        No filho = no.filhos.get(inicial);
+        if (filho == null || !chave.startsWith(filho.rotulo, posicao)) {
+            return;
+        }
+
+        remover(filho, chave, posicao + filho.rotulo.length(), id);
+
+        if (filho.ids.isEmpty() && filho.filhos.isEmpty()) {
+            no.filhos.remove(inicial);
+        } else if (filho.ids.isEmpty() && filho.filhos.size() == 1) {
+            // Recompacta: o nó intermediário sem IDs é absorvido pelo único filho
+            No unico = filho.filhos.firstEntry().getValue();
+            unico.rotulo = filho.rotulo + unico.rotulo;
+            no.filhos.put(inicial, unico);
+        }
+    }
+
+    private static int prefixoComum(String rotulo, String chave, int posicao) {
+        int limite = Math.min(rotulo.length(), chave.length() - posicao);
+        int i = 0;
+        while (i < limite && rotulo.charAt(i) == chave.charAt(posicao + i)) {
+            i++;
+        }
+        return i;
+    }
+
+    private static final class No {
+        private String rotulo;
+        private final TreeMap<Character, No> filhos = new TreeMap<>();
+        private final Set<Long> ids = new LinkedHashSet<>(1);
+
+        private No(String rotulo) {
+            this.rotulo = rotulo;
+        }
+    }
+}
@@ -1,6 +1,9 @@
 package com.consultorio.domain.paciente.controller;
 
 import com.consultorio.domain.paciente.DTOs.*;
+import com.consultorio.domain.paciente.busca.AutocompletePacientes;
+import com.consultorio.domain.paciente.busca.PacienteBuscaService;
+import com.consultorio.domain.paciente.service.OdontogramaService;
 import com.consultorio.domain.paciente.service.PacienteService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -11,6 +14,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
+import java.util.Map;
 
 @RestController
 @RequestMapping("/pacientes")
@@ -19,6 +23,9 @@ import java.util.List;
 public class PacienteController {
 
     private final PacienteService service;
+    private final PacienteBuscaService buscaService;
+    private final AutocompletePacientes autocomplete;
+    private final OdontogramaService odontogramaService;
 
     // ========== OPERAÇÕES BÁSICAS ==========
 
@@ -96,6 +103,12 @@ public class PacienteController {
         return ResponseEntity.ok(anamnese);
     }
 
+    @GetMapping("/anamneses")
+    public ResponseEntity<Map<Long, AnamneseDTO>> buscarAnamneses(@RequestParam List<Long> ids) {
+        Map<Long, AnamneseDTO> anamneses = service.buscarAnamnesesPorPacienteIds(ids);
+        return ResponseEntity.ok(anamneses);
+    }
+
     @PutMapping("/{id}/anamnese")
     public ResponseEntity<PacienteResponseDTO> atualizarAnamnese(
             @PathVariable Long id,
@@ -104,51 +117,12 @@ public class PacienteController {
         return ResponseEntity.ok(response);
     }
 
-    // ========== PLANO DE TRATAMENTO ==========
-
-    @PostMapping("/{id}/plano-tratamento")
-    public ResponseEntity<PlanoTratamentoResponseDTO> criarPlanoTratamento(
-            @PathVariable Long id,
-            @Valid @RequestBody PlanoTratamentoCreateDTO createDTO) {
-        PlanoTratamentoResponseDTO response = service.criarPlanoTratamento(id, createDTO);
-        return ResponseEntity.status(HttpStatus.CREATED).body(response);
-    }
-
-    @GetMapping("/{id}/plano-tratamento")
-    public ResponseEntity<List<PlanoTratamentoResponseDTO>> listarPlanosTratamento(@PathVariable Long id) {
-        List<PlanoTratamentoResponseDTO> planos = service.listarPlanosTratamentoPorPaciente(id);
-        return ResponseEntity.ok(planos);
-    }
-
-    @GetMapping("/{id}/plano-tratamento/{planoId}")
-    public ResponseEntity<PlanoTratamentoResponseDTO> buscarPlanoTratamentoPorId(
-            @PathVariable Long id,
-            @PathVariable Long planoId) {
-        PlanoTratamentoResponseDTO plano = service.buscarPlanoTratamentoPorId(planoId);
-        return ResponseEntity.ok(plano);
-    }
-
-    @PutMapping("/{id}/plano-tratamento/{planoId}")
-    public ResponseEntity<PlanoTratamentoResponseDTO> atualizarPlanoTratamento(
-            @PathVariable Long id,
-            @PathVariable Long planoId,
-            @Valid @RequestBody PlanoTratamentoUpdateDTO updateDTO) {
-        PlanoTratamentoResponseDTO response = service.atualizarPlanoTratamento(planoId, updateDTO);
-        return ResponseEntity.ok(response);
-    }
-
-    @DeleteMapping("/{id}/plano-tratamento/{planoId}")
-    public ResponseEntity<Void> excluirPlanoTratamento(
-            @PathVariable Long id,
-            @PathVariable Long planoId) {
-        service.excluirPlanoTratamento(planoId);
-        return ResponseEntity.noContent().build();
-    }
+    // ========== ODONTOGRAMA ==========
 
-    @GetMapping("/{id}/plano-tratamento/resumo")
-    public ResponseEntity<PlanoTratamentoPacienteDTO> obterResumoPlanosTratamento(@PathVariable Long id) {
-        PlanoTratamentoPacienteDTO resumo = service.obterResumoPlanosTratamento(id);
-        return ResponseEntity.ok(resumo);
+    @GetMapping("/{id}/odontograma")
+    public ResponseEntity<OdontogramaDTO> obterOdontograma(@PathVariable Long id) {
+        OdontogramaDTO odontograma = odontogramaService.obter(id);
+        return ResponseEntity.ok(odontograma);
     }
 
     // ========== ENDPOINTS ADICIONAIS ==========
@@ -168,6 +142,30 @@ public class PacienteController {
         return ResponseEntity.ok(pacientes);
     }
 
+    // ========== BUSCA NORMALIZADA ==========
+
+    @GetMapping("/busca")
+    public ResponseEntity<List<PacienteListDTO>> buscar(
+            @RequestParam String termo,
+            @RequestParam(required = false) Integer limite) {
+        List<PacienteListDTO> pacientes = buscaService.buscar(termo, limite);
+        return ResponseEntity.ok(pacientes);
+    }
+
+    @GetMapping("/autocomplete")
+    public ResponseEntity<List<PacienteAutocompleteDTO>> autocomplete(
+            @RequestParam(required = false) String termo,
+            @RequestParam(required = false) Integer limite) {
+        List<PacienteAutocompleteDTO> pacientes = autocomplete.buscar(termo, limite);
+        return ResponseEntity.ok(pacientes);
+    }
+
+    @PostMapping("/busca/reindexar")
+    public ResponseEntity<ReindexacaoBuscaDTO> reindexarBusca() {
+        ReindexacaoBuscaDTO resultado = buscaService.reindexar();
+        return ResponseEntity.ok(resultado);
+    }
+
     @GetMapping("/{id}/historico")
     public ResponseEntity<PacienteHistoricoDTO> obterHistoricoCompleto(@PathVariable Long id) {
         PacienteHistoricoDTO historico = service.obterHistoricoCompleto(id);
@@ -9,6 +9,7 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.math.BigDecimal;
 import java.util.List;
 
 @RestController
@@ -27,6 +28,14 @@ public class PlanoTratamentoController {
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
+    @PostMapping("/lote")
+    public ResponseEntity<List<PlanoTratamentoResponseDTO>> criarEmLote(
+            @PathVariable Long pacienteId,
+            @Valid @RequestBody PlanoTratamentoLoteDTO dto) {
+        List<PlanoTratamentoResponseDTO> response = planoTratamentoService.criarEmLote(pacienteId, dto);
+        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+    }
+
     @GetMapping
     public ResponseEntity<List<PlanoTratamentoResponseDTO>> listarPorPaciente(@PathVariable Long pacienteId) {
         List<PlanoTratamentoResponseDTO> response = planoTratamentoService.listarPorPaciente(pacienteId);
@@ -64,6 +73,12 @@ public class PlanoTratamentoController {
         return ResponseEntity.ok(response);
     }
 
+    @GetMapping("/estatisticas")
+    public ResponseEntity<PlanoTratamentoResumoDTO> obterEstatisticas(@PathVariable Long pacienteId) {
+        PlanoTratamentoResumoDTO response = planoTratamentoService.obterEstatisticasPorPaciente(pacienteId);
+        return ResponseEntity.ok(response);
+    }
+
     @PatchMapping("/{planoId}/status")
     public ResponseEntity<PlanoTratamentoResponseDTO> atualizarStatus(
             @PathVariable Long pacienteId,
@@ -107,8 +122,8 @@ public class PlanoTratamentoController {
     }
 
     @GetMapping("/valor-total")
-    public ResponseEntity<Double> obterValorTotal(@PathVariable Long pacienteId) {
-        Double valorTotal = planoTratamentoService.obterValorTotalPorPaciente(pacienteId);
+    public ResponseEntity<BigDecimal> obterValorTotal(@PathVariable Long pacienteId) {
+        BigDecimal valorTotal = planoTratamentoService.obterValorTotalPorPaciente(pacienteId);
         return ResponseEntity.ok(valorTotal);
     }
 
@@ -0,0 +1,47 @@
+package com.consultorio.domain.paciente.controller;
+
+import com.consultorio.domain.paciente.DTOs.OpcaoReferenciaDTO;
+import com.consultorio.domain.paciente.Enums.Dente;
+import com.consultorio.domain.paciente.Enums.StatusPlanoTratamento;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+
+// Opções fixas dos enums exibidos na interface: montadas uma única vez e cacheadas pelo navegador,
+// já que só mudam com uma nova versão da aplicação
+@RestController
+@RequestMapping("/pacientes/referencias")
+@CrossOrigin(origins = "*")
+public class ReferenciaController {
+
+    private static final CacheControl CACHE = CacheControl.maxAge(Duration.ofDays(1)).cachePublic();
+
+    private static final List<OpcaoReferenciaDTO> DENTES = Arrays.stream(Dente.values())
+            .map(dente -> OpcaoReferenciaDTO.builder()
+                    .valor(dente.name())
+                    .descricao(dente.getDescricao())
+                    .build())
+            .toList();
+
+    private static final List<OpcaoReferenciaDTO> STATUS_PLANO_TRATAMENTO = Arrays.stream(StatusPlanoTratamento.values())
+            .map(status -> OpcaoReferenciaDTO.builder()
+                    .valor(status.name())
+                    .descricao(status.getDescricao())
+                    .detalhes(status.getDetalhes())
+                    .build())
+            .toList();
+
+    @GetMapping("/dentes")
+    public ResponseEntity<List<OpcaoReferenciaDTO>> listarDentes() {
+        return ResponseEntity.ok().cacheControl(CACHE).body(DENTES);
+    }
+
+    @GetMapping("/status-plano-tratamento")
+    public ResponseEntity<List<OpcaoReferenciaDTO>> listarStatusPlanoTratamento() {
+        return ResponseEntity.ok().cacheControl(CACHE).body(STATUS_PLANO_TRATAMENTO);
+    }
+}
@@ -0,0 +1,28 @@
+package com.consultorio.domain.paciente.controller;
+
+import com.consultorio.domain.paciente.DTOs.OrcamentoAbertoDentistaMesDTO;
+import com.consultorio.domain.paciente.service.PlanoTratamentoService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.YearMonth;
+import java.util.List;
+
+@RestController
+@RequestMapping("/planos-tratamento/relatorios")
+@RequiredArgsConstructor
+@CrossOrigin(origins = "*")
+public class RelatorioPlanoTratamentoController {
+
+    private final PlanoTratamentoService planoTratamentoService;
+
+    @GetMapping("/orcamentos-abertos")
+    public ResponseEntity<List<OrcamentoAbertoDentistaMesDTO>> orcamentosAbertos(
+            @RequestParam(required = false) @DateTimeFormat(pattern = "yyyy-MM") YearMonth de,
+            @RequestParam(required = false) @DateTimeFormat(pattern = "yyyy-MM") YearMonth ate) {
+        List<OrcamentoAbertoDentistaMesDTO> response = planoTratamentoService.totalizarOrcamentosAbertos(de, ate);
+        return ResponseEntity.ok(response);
+    }
+}
@@ -1,9 +1,13 @@
 package com.consultorio.domain.paciente.converter;
 
 import com.consultorio.domain.paciente.DTOs.*;
+import com.consultorio.domain.paciente.entity.Anamnese;
 import com.consultorio.domain.paciente.entity.Paciente;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
+import java.util.List;
+
 @Component
 public class PacienteConverter {
 
@@ -21,6 +25,56 @@ public class PacienteConverter {
         return new PacienteConvert(dto);
     }
 
+    // ========== ANAMNESE ==========
+
+    // Sem anamnese cadastrada: DTO vazio, com as listas inicializadas
+    public AnamneseDTO toAnamneseDTO(Anamnese anamnese) {
+        if (anamnese == null) {
+            return AnamneseDTO.builder().build();
+        }
+
+        Anamnese.ExameClinico exame = anamnese.getExameClinico();
+        return AnamneseDTO.builder()
+                .doencasPreexistentes(copiar(anamnese.getDoencasPreexistentes()))
+                .alergias(copiar(anamnese.getAlergias()))
+                .medicamentosEmUso(copiar(anamnese.getMedicamentosEmUso()))
+                .fumante(anamnese.isFumante())
+                .cigarrosPorDia(anamnese.getCigarrosPorDia())
+                .anosFumando(anamnese.getAnosFumando())
+                .consomeAlcool(anamnese.isConsomeAlcool())
+                .frequenciaAlcool(anamnese.getFrequenciaAlcool())
+                .historicoCirurgico(anamnese.isHistoricoCirurgico())
+                .detalhesCirurgias(anamnese.getDetalhesCirurgias())
+                .problemasCardiacos(anamnese.isProblemasCardiacos())
+                .problemasRenais(anamnese.isProblemasRenais())
+                .problemasHepaticos(anamnese.isProblemasHepaticos())
+                .problemasRespiratorios(anamnese.isProblemasRespiratorios())
+                .diabetes(anamnese.isDiabetes())
+                .hipertensao(anamnese.isHipertensao())
+                .problemasCoagulacao(anamnese.isProblemasCoagulacao())
+                .queixaPrincipal(anamnese.getQueixaPrincipal())
+                .evolucaoDoencaAtual(anamnese.getEvolucaoDoencaAtual())
+                .exameClinico(exame != null ?
+                        ExameClinicoDTO.builder()
+                                .lingua(exame.getLingua())
+                                .mucosa(exame.getMucosa())
+                                .palato(exame.getPalato())
+                                .labios(exame.getLabios())
+                                .gengivas(exame.getGengivas())
+                                .face(exame.getFace())
+                                .ganglios(exame.getGanglios())
+                                .glandulasSalivares(exame.getGlandulasSalivares())
+                                .alteracaoOclusao(exame.isAlteracaoOclusao())
+                                .detalhesOclusao(exame.getDetalhesOclusao())
+                                .observacoes(exame.getObservacoes())
+                                .build() : null)
+                .build();
+    }
+
+    private static List<String> copiar(List<String> itens) {
+        return itens != null ? new ArrayList<>(itens) : new ArrayList<>();
+    }
+
     // ========== CLASSE DE CONVERSÃO ==========
 
     public static class PacienteConvert {
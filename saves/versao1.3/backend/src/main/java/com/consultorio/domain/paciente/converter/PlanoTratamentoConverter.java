@@ -4,6 +4,7 @@ import com.consultorio.domain.paciente.DTOs.*;
 import com.consultorio.domain.paciente.entity.Paciente;
 import com.consultorio.domain.paciente.entity.PlanoTratamento;
 import com.consultorio.domain.paciente.Enums.StatusPlanoTratamento;
+import com.consultorio.domain.paciente.valor.Dinheiro;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
@@ -23,6 +24,7 @@ public class PlanoTratamentoConverter {
                 .valor(dto.valor())
                 .observacao(dto.observacao())
                 .valorTotal(dto.valorTotal())
+                .dentistaId(dto.dentistaId())
                 .status(StatusPlanoTratamento.ORCAMENTO)
                 .build();
     }
@@ -47,17 +49,22 @@ public class PlanoTratamentoConverter {
         if (dto.valorTotal() != null) {
             entity.setValorTotal(dto.valorTotal());
         }
+        if (dto.dentistaId() != null) {
+            entity.setDentistaId(dto.dentistaId());
+        }
     }
 
     // ========== RESPONSE ==========
 
-    public PlanoTratamentoResponseDTO toResponseDTO(PlanoTratamento entity) {
+    // O nome vem de quem chama: o id sai da chave estrangeira e o proxy de Paciente não é inicializado
+    public PlanoTratamentoResponseDTO toResponseDTO(PlanoTratamento entity, String pacienteNome) {
         if (entity == null) return null;
 
         return PlanoTratamentoResponseDTO.builder()
                 .id(entity.getId())
                 .pacienteId(entity.getPaciente() != null ? entity.getPaciente().getId() : null)
-                .pacienteNome(entity.getPaciente() != null ? entity.getPaciente().getNome() : null)
+                .pacienteNome(pacienteNome)
+                .dentistaId(entity.getDentistaId())
                 .dente(entity.getDente())
                 .procedimento(entity.getProcedimento())
                 .valor(entity.getValor())
@@ -73,42 +80,17 @@ public class PlanoTratamentoConverter {
                 .build();
     }
 
-    // ========== LIST ==========
-
-    public PlanoTratamentoListDTO toListDTO(PlanoTratamento entity) {
-        if (entity == null) return null;
-
-        return PlanoTratamentoListDTO.builder()
-                .id(entity.getId())
-                .pacienteId(entity.getPaciente() != null ? entity.getPaciente().getId() : null)
-                .pacienteNome(entity.getPaciente() != null ? entity.getPaciente().getNome() : null)
-                .dente(entity.getDente())
-                .procedimento(entity.getProcedimento())
-                .valor(entity.getValor())
-                .valorTotal(entity.getValorTotal())
-                .observacao(entity.getObservacao())
-                .status(entity.getStatus())
-                .build();
-    }
-
     // ========== BULK OPERATIONS ==========
 
-    public PlanoTratamentoPacienteDTO toPlanoTratamentoPacienteDTO(Paciente paciente, java.util.List<PlanoTratamento> planos) {
-        if (paciente == null) return null;
-
-        Double valorTotalGeral = planos.stream()
-                .mapToDouble(PlanoTratamento::getValorTotal)
-                .sum();
-
-        java.util.List<PlanoTratamentoResponseDTO> planosDTO = planos.stream()
-                .map(this::toResponseDTO)
-                .toList();
+    public PlanoTratamentoPacienteDTO toPlanoTratamentoPacienteDTO(Long pacienteId, String pacienteNome,
+                                                                  java.util.List<PlanoTratamentoResponseDTO> planos) {
+        if (pacienteId == null) return null;
 
         return PlanoTratamentoPacienteDTO.builder()
-                .pacienteId(paciente.getId())
-                .pacienteNome(paciente.getNome())
-                .planosTratamento(planosDTO)
-                .valorTotalGeral(valorTotalGeral)
+                .pacienteId(pacienteId)
+                .pacienteNome(pacienteNome)
+                .planosTratamento(planos)
+                .valorTotalGeral(Dinheiro.somar(planos, PlanoTratamentoResponseDTO::valorTotal))
                 .build();
     }
 
@@ -150,6 +132,9 @@ public class PlanoTratamentoConverter {
         if (dto.valorTotal() != null) {
             entity.setValorTotal(dto.valorTotal());
         }
+        if (dto.dentistaId() != null) {
+            entity.setDentistaId(dto.dentistaId());
+        }
     }
 
     // ========== VALIDATION ==========
@@ -164,10 +149,10 @@ public class PlanoTratamentoConverter {
         if (dto.procedimento() == null || dto.procedimento().trim().isEmpty()) {
             throw new IllegalArgumentException("Procedimento é obrigatório");
         }
-        if (dto.valor() == null || dto.valor() <= 0) {
+        if (dto.valor() == null || dto.valor().signum() <= 0) {
             throw new IllegalArgumentException("Valor deve ser maior que zero");
         }
-        if (dto.valorTotal() == null || dto.valorTotal() <= 0) {
+        if (dto.valorTotal() == null || dto.valorTotal().signum() <= 0) {
             throw new IllegalArgumentException("Valor total deve ser maior que zero");
         }
     }
@@ -182,65 +167,52 @@ public class PlanoTratamentoConverter {
         if (dto.procedimento() == null || dto.procedimento().trim().isEmpty()) {
             throw new IllegalArgumentException("Procedimento é obrigatório");
         }
-        if (dto.valor() == null || dto.valor() <= 0) {
+        if (dto.valor() == null || dto.valor().signum() <= 0) {
             throw new IllegalArgumentException("Valor deve ser maior que zero");
         }
-        if (dto.valorTotal() == null || dto.valorTotal() <= 0) {
+        if (dto.valorTotal() == null || dto.valorTotal().signum() <= 0) {
             throw new IllegalArgumentException("Valor total deve ser maior que zero");
         }
     }
 
     // ========== SUMMARY ==========
 
-    public PlanoTratamentoResumoDTO toResumoDTO(java.util.List<PlanoTratamento> planos) {
-        if (planos == null || planos.isEmpty()) {
-            return PlanoTratamentoResumoDTO.builder()
-                    .totalPlanos(0L)
-                    .planosAtivos(0L)
-                    .planosConcluidos(0L)
-                    .valorTotalAtivos(0.0)
-                    .valorTotalConcluidos(0.0)
-                    .procedimentoMaisComum("Nenhum")
-                    .build();
+    // Totais já agrupados no banco (uma linha por status e por dente); aqui só se combinam as linhas
+    public PlanoTratamentoResumoDTO toResumoDTO(Long pacienteId,
+                                                java.util.List<PlanoTratamentoTotalStatusDTO> porStatus,
+                                                java.util.List<PlanoTratamentoTotalDenteDTO> porDente,
+                                                String procedimentoMaisComum) {
+        long totalPlanos = 0;
+        long planosAtivos = 0;
+        long planosConcluidos = 0;
+        long centavosTotal = 0;
+        long centavosAtivos = 0;
+        long centavosConcluidos = 0;
+
+        for (PlanoTratamentoTotalStatusDTO total : porStatus) {
+            long centavos = Dinheiro.centavos(total.valorTotal());
+            totalPlanos = Math.addExact(totalPlanos, total.quantidade());
+            centavosTotal = Math.addExact(centavosTotal, centavos);
+            if (total.status() == StatusPlanoTratamento.ATIVO) {
+                planosAtivos = total.quantidade();
+                centavosAtivos = centavos;
+            } else if (total.status() == StatusPlanoTratamento.CONCLUIDO) {
+                planosConcluidos = total.quantidade();
+                centavosConcluidos = centavos;
+            }
         }
 
-        long totalPlanos = planos.size();
-        long planosAtivos = planos.stream()
-                .filter(p -> p.getStatus() == StatusPlanoTratamento.ATIVO)
-                .count();
-        long planosConcluidos = planos.stream()
-                .filter(p -> p.getStatus() == StatusPlanoTratamento.CONCLUIDO)
-                .count();
-
-        double valorTotalAtivos = planos.stream()
-                .filter(p -> p.getStatus() == StatusPlanoTratamento.ATIVO)
-                .mapToDouble(PlanoTratamento::getValorTotal)
-                .sum();
-
-        double valorTotalConcluidos = planos.stream()
-                .filter(p -> p.getStatus() == StatusPlanoTratamento.CONCLUIDO)
-                .mapToDouble(PlanoTratamento::getValorTotal)
-                .sum();
-
-        // Encontra o procedimento mais comum
-        String procedimentoMaisComum = planos.stream()
-                .collect(java.util.stream.Collectors.groupingBy(
-                        PlanoTratamento::getProcedimento,
-                        java.util.stream.Collectors.counting()
-                ))
-                .entrySet()
-                .stream()
-                .max(java.util.Map.Entry.comparingByValue())
-                .map(java.util.Map.Entry::getKey)
-                .orElse("Nenhum");
-
         return PlanoTratamentoResumoDTO.builder()
+                .pacienteId(pacienteId)
                 .totalPlanos(totalPlanos)
                 .planosAtivos(planosAtivos)
                 .planosConcluidos(planosConcluidos)
-                .valorTotalAtivos(valorTotalAtivos)
-                .valorTotalConcluidos(valorTotalConcluidos)
-                .procedimentoMaisComum(procedimentoMaisComum)
+                .valorTotal(Dinheiro.reais(centavosTotal))
+                .valorTotalAtivos(Dinheiro.reais(centavosAtivos))
+                .valorTotalConcluidos(Dinheiro.reais(centavosConcluidos))
+                .procedimentoMaisComum(procedimentoMaisComum != null ? procedimentoMaisComum : "Nenhum")
+                .porStatus(porStatus)
+                .porDente(porDente)
                 .build();
     }
 
@@ -254,19 +226,12 @@ public class PlanoTratamentoConverter {
                 .toList();
     }
 
-    public java.util.List<PlanoTratamentoResponseDTO> toResponseDTOs(java.util.List<PlanoTratamento> entities) {
-        if (entities == null) return java.util.Collections.emptyList();
-
-        return entities.stream()
-                .map(this::toResponseDTO)
-                .toList();
-    }
-
-    public java.util.List<PlanoTratamentoListDTO> toListDTOs(java.util.List<PlanoTratamento> entities) {
+    public java.util.List<PlanoTratamentoResponseDTO> toResponseDTOs(java.util.List<PlanoTratamento> entities,
+                                                                     String pacienteNome) {
         if (entities == null) return java.util.Collections.emptyList();
 
         return entities.stream()
-                .map(this::toListDTO)
+                .map(entity -> toResponseDTO(entity, pacienteNome))
                 .toList();
     }
 }
\ No newline at end of file
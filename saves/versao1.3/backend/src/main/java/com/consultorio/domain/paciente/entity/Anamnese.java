@@ -2,7 +2,10 @@ package com.consultorio.domain.paciente.entity;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.BatchSize;
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.Fetch;
+import org.hibernate.annotations.FetchMode;
 import org.hibernate.annotations.UpdateTimestamp;
 
 import java.time.LocalDateTime;
@@ -16,30 +19,39 @@ import java.util.List;
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
+@BatchSize(size = Anamnese.TAMANHO_LOTE)
 public class Anamnese {
 
+    // Proxies de Paciente.anamnese inicializados em lotes; as três listas carregadas por subselect
+    // para todas as anamneses da mesma consulta (1 + 3 consultas, independente do número de pacientes)
+    public static final int TAMANHO_LOTE = 100;
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "anamneses_seq")
+    @SequenceGenerator(name = "anamneses_seq", sequenceName = "anamneses_seq", allocationSize = 50)
     private Long id;
 
-    @OneToOne
+    @OneToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "paciente_id")
     private Paciente paciente;
 
     // === HISTÓRICO MÉDICO ===
     @ElementCollection
+    @Fetch(FetchMode.SUBSELECT)
     @CollectionTable(name = "paciente_doencas_preexistentes",
             joinColumns = @JoinColumn(name = "anamnese_id"))
     @Column(name = "doenca")
     private List<String> doencasPreexistentes = new ArrayList<>();
 
     @ElementCollection
+    @Fetch(FetchMode.SUBSELECT)
     @CollectionTable(name = "paciente_alergias",
             joinColumns = @JoinColumn(name = "anamnese_id"))
     @Column(name = "alergia")
     private List<String> alergias = new ArrayList<>();
 
     @ElementCollection
+    @Fetch(FetchMode.SUBSELECT)
     @CollectionTable(name = "paciente_medicamentos",
             joinColumns = @JoinColumn(name = "anamnese_id"))
     @Column(name = "medicamento")
@@ -3,6 +3,7 @@ package com.consultorio.domain.paciente.entity;
 import com.consultorio.domain.paciente.Enums.EstadoCivil;
 import com.consultorio.domain.paciente.Enums.Sexo;
 import com.consultorio.domain.paciente.Enums.StatusPaciente;
+import com.consultorio.domain.paciente.busca.NormalizadorBusca;
 import jakarta.persistence.*;
 import lombok.*;
 import org.hibernate.annotations.CreationTimestamp;
@@ -13,6 +14,7 @@ import java.time.LocalDateTime;
 
 @Entity
 @Table(name = "pacientes")
+@NamedEntityGraph(name = Paciente.GRAFO_ANAMNESE, attributeNodes = @NamedAttributeNode("anamnese"))
 @Getter
 @Setter
 @NoArgsConstructor
@@ -20,8 +22,11 @@ import java.time.LocalDateTime;
 @Builder
 public class Paciente {
 
+    public static final String GRAFO_ANAMNESE = "Paciente.anamnese";
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "pacientes_seq")
+    @SequenceGenerator(name = "pacientes_seq", sequenceName = "pacientes_seq", allocationSize = 50)
     private Long id;
 
     // === DADOS PESSOAIS BÁSICOS ===
@@ -111,6 +116,20 @@ public class Paciente {
     @Column(length = 20)
     private StatusPaciente status;
 
+    // === BUSCA (índices de trigramas na migração V2) ===
+    @Column(length = 100)
+    private String nomeNormalizado;
+
+    @Column(length = 200)
+    private String termosBusca;
+
+    @PrePersist
+    @PreUpdate
+    public void atualizarTermosBusca() {
+        nomeNormalizado = NormalizadorBusca.texto(nome);
+        termosBusca = NormalizadorBusca.termos(nome, cpf, telefone, prontuario);
+    }
+
     // === MÉTODOS ÚTEIS ===
     public int getIdade() {
         if (dataNascimento == null) return 0;
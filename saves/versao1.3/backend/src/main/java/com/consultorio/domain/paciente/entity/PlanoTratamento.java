@@ -2,29 +2,40 @@ package com.consultorio.domain.paciente.entity;
 
 import com.consultorio.domain.paciente.Enums.Dente;
 import com.consultorio.domain.paciente.Enums.StatusPlanoTratamento;
+import com.consultorio.domain.paciente.valor.Dinheiro;
 import jakarta.persistence.*;
 import lombok.*;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 
+import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "plano_tratamento")
+@Table(name = "plano_tratamento", indexes = {
+        @Index(name = "idx_plano_tratamento_paciente_status", columnList = "paciente_id, status")
+})
 @Getter
 @Setter
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
 public class PlanoTratamento {
+
+    // Sequência com alocação em lote (pooled-lo) para permitir inserts em batch via JDBC
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "plano_tratamento_seq")
+    @SequenceGenerator(name = "plano_tratamento_seq", sequenceName = "plano_tratamento_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "paciente_id", nullable = false)
     private Paciente paciente;
 
+    // Dentista responsável pelo orçamento; só o ID, como em Agenda
+    @Column(name = "dentista_id")
+    private Long dentistaId;
+
     @Enumerated(EnumType.STRING)
     @Column(nullable = false, length = 50)
     private Dente dente;
@@ -32,14 +43,14 @@ public class PlanoTratamento {
     @Column(nullable = false, length = 200)
     private String procedimento;
 
-    @Column(nullable = false)
-    private Double valor;
+    @Column(nullable = false, precision = Dinheiro.PRECISAO, scale = Dinheiro.ESCALA)
+    private BigDecimal valor;
 
     @Column(length = 500)
     private String observacao;
 
-    @Column(nullable = false)
-    private Double valorTotal;
+    @Column(nullable = false, precision = Dinheiro.PRECISAO, scale = Dinheiro.ESCALA)
+    private BigDecimal valorTotal;
 
     @Enumerated(EnumType.STRING)
     @Column(nullable = false, length = 50)
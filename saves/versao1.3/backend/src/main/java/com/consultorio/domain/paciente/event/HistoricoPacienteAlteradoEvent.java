@@ -0,0 +1,6 @@
+package com.consultorio.domain.paciente.event;
+
+// Publicado em escritas que mudam o histórico do paciente além do cadastro:
+// status, anamnese, planos de tratamento e agendamentos
+public record HistoricoPacienteAlteradoEvent(Long pacienteId) {
+}
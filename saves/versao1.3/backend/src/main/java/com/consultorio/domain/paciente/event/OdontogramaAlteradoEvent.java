@@ -0,0 +1,17 @@
+package com.consultorio.domain.paciente.event;
+
+import com.consultorio.domain.paciente.Enums.Dente;
+import com.consultorio.domain.paciente.Enums.StatusPlanoTratamento;
+
+// Publicado nas escritas de planos de tratamento. Mudanças de status trazem o dente e o novo status
+// e atualizam o odontograma em cache; as demais (criação, edição, exclusão) só o invalidam
+public record OdontogramaAlteradoEvent(Long pacienteId, Dente dente, StatusPlanoTratamento status) {
+
+    public static OdontogramaAlteradoEvent invalidacao(Long pacienteId) {
+        return new OdontogramaAlteradoEvent(pacienteId, null, null);
+    }
+
+    public boolean isIncremental() {
+        return dente != null && status != null;
+    }
+}
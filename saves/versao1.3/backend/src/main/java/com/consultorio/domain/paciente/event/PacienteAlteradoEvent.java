@@ -0,0 +1,18 @@
+package com.consultorio.domain.paciente.event;
+
+// Publicado na criação, na atualização e na exclusão de um paciente:
+// nomeAnterior é nulo na criação e nomeAtual é nulo quando o paciente foi excluído
+public record PacienteAlteradoEvent(Long pacienteId, String nomeAnterior, String nomeAtual) {
+
+    public boolean isCriacao() {
+        return nomeAnterior == null && nomeAtual != null;
+    }
+
+    public boolean isExclusao() {
+        return nomeAtual == null;
+    }
+
+    public boolean isNomeAlterado() {
+        return !isExclusao() && !isCriacao() && !nomeAtual.equals(nomeAnterior);
+    }
+}
@@ -1,14 +1,18 @@
 package com.consultorio.domain.paciente.repository;
 
+import com.consultorio.domain.paciente.DTOs.PacienteAutocompleteDTO;
+import com.consultorio.domain.paciente.DTOs.PacienteListDTO;
 import com.consultorio.domain.paciente.entity.Paciente;
 import com.consultorio.domain.paciente.Enums.StatusPaciente;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -16,25 +20,84 @@ import java.util.Optional;
 public interface PacienteRepository extends JpaRepository<Paciente, Long> {
 
     // Consultas básicas
-    List<Paciente> findAllByOrderByDataCadastroDesc();
-    Page<Paciente> findAllByOrderByDataCadastroDesc(Pageable pageable);
-    List<Paciente> findByNomeContainingIgnoreCaseOrderByNome(String nome);
     Optional<Paciente> findByCpf(String cpf);
     List<Paciente> findByStatus(StatusPaciente status);
 
+    // Paciente e anamnese na mesma consulta; as listas da anamnese vêm por subselect
+    @EntityGraph(Paciente.GRAFO_ANAMNESE)
+    @Query("SELECT p FROM Paciente p WHERE p.id = :id")
+    Optional<Paciente> buscarComAnamnese(@Param("id") Long id);
+
+    @EntityGraph(Paciente.GRAFO_ANAMNESE)
+    @Query("SELECT p FROM Paciente p WHERE p.id IN :ids")
+    List<Paciente> buscarComAnamnese(@Param("ids") Collection<Long> ids);
+
+    @Query("SELECT p.nome FROM Paciente p WHERE p.id = :id")
+    Optional<String> findNomeById(@Param("id") Long id);
+
+    // Projeções de listagem: apenas as colunas de PacienteListDTO, sem embutidos, observações nem anamnese
+    @Query("SELECT new com.consultorio.domain.paciente.DTOs.PacienteListDTO(" +
+            "p.id, p.nome, p.telefone, p.email, p.dataNascimento, p.status) " +
+            "FROM Paciente p ORDER BY p.dataCadastro DESC")
+    List<PacienteListDTO> listarResumos();
+
+    @Query(value = "SELECT new com.consultorio.domain.paciente.DTOs.PacienteListDTO(" +
+            "p.id, p.nome, p.telefone, p.email, p.dataNascimento, p.status) " +
+            "FROM Paciente p ORDER BY p.dataCadastro DESC",
+            countQuery = "SELECT COUNT(p) FROM Paciente p")
+    Page<PacienteListDTO> listarResumos(Pageable pageable);
+
+    @Query("SELECT new com.consultorio.domain.paciente.DTOs.PacienteListDTO(" +
+            "p.id, p.nome, p.telefone, p.email, p.dataNascimento, p.status) " +
+            "FROM Paciente p WHERE p.nomeNormalizado LIKE CONCAT('%', :nome, '%') ORDER BY p.nome")
+    List<PacienteListDTO> listarResumosPorNome(@Param("nome") String nome);
+
+    @Query("SELECT new com.consultorio.domain.paciente.DTOs.PacienteListDTO(" +
+            "p.id, p.nome, p.telefone, p.email, p.dataNascimento, p.status) " +
+            "FROM Paciente p WHERE p.status = :status")
+    List<PacienteListDTO> listarResumosPorStatus(@Param("status") StatusPaciente status);
+
+    @Query("SELECT new com.consultorio.domain.paciente.DTOs.PacienteListDTO(" +
+            "p.id, p.nome, p.telefone, p.email, p.dataNascimento, p.status) FROM Paciente p WHERE " +
+            "(:nome IS NULL OR p.nomeNormalizado LIKE CONCAT('%', :nome, '%')) AND " +
+            "(:cpf IS NULL OR p.cpf = :cpf) AND " +
+            "(:telefone IS NULL OR p.telefone LIKE CONCAT('%', :telefone, '%')) " +
+            "ORDER BY p.nome")
+    List<PacienteListDTO> buscarAvancadoResumos(@Param("nome") String nome,
+                                                @Param("cpf") String cpf,
+                                                @Param("telefone") String telefone);
+
+    // ========== BUSCA NORMALIZADA (índices de trigramas na migração V2) ==========
+
+    // Termos com 3 ou mais caracteres: nome, dígitos de CPF/telefone e prontuário (índice GIN gin_trgm_ops)
+    @Query("SELECT new com.consultorio.domain.paciente.DTOs.PacienteListDTO(" +
+            "p.id, p.nome, p.telefone, p.email, p.dataNascimento, p.status) " +
+            "FROM Paciente p WHERE p.termosBusca LIKE CONCAT('%', :termo, '%') ORDER BY p.nome")
+    List<PacienteListDTO> buscarResumosPorTermo(@Param("termo") String termo, Pageable pageable);
+
+    // Termos curtos demais para trigramas: prefixo do nome (índice text_pattern_ops)
+    @Query("SELECT new com.consultorio.domain.paciente.DTOs.PacienteListDTO(" +
+            "p.id, p.nome, p.telefone, p.email, p.dataNascimento, p.status) " +
+            "FROM Paciente p WHERE p.nomeNormalizado LIKE CONCAT(:prefixo, '%') ORDER BY p.nome")
+    List<PacienteListDTO> buscarResumosPorPrefixo(@Param("prefixo") String prefixo, Pageable pageable);
+
+    // Carga do autocomplete em memória
+    @Query("SELECT new com.consultorio.domain.paciente.DTOs.PacienteAutocompleteDTO(p.id, p.nome, p.cpf, p.telefone) " +
+            "FROM Paciente p")
+    List<PacienteAutocompleteDTO> listarAutocomplete();
+
+    @Query("SELECT new com.consultorio.domain.paciente.DTOs.PacienteAutocompleteDTO(p.id, p.nome, p.cpf, p.telefone) " +
+            "FROM Paciente p WHERE p.id = :id")
+    Optional<PacienteAutocompleteDTO> buscarAutocompletePorId(@Param("id") Long id);
+
+    // Reindexação em lotes por chave
+    List<Paciente> findByIdGreaterThanOrderById(Long id, Pageable pageable);
+
+    boolean existsByNomeNormalizadoIsNull();
+
     // Validações de unicidade
     boolean existsByCpf(String cpf);
     boolean existsByCpfAndIdNot(String cpf, Long id);
     boolean existsByProntuario(String prontuario);
     boolean existsByProntuarioAndIdNot(String prontuario, Long id);
-
-    // Busca avançada
-    @Query("SELECT p FROM Paciente p WHERE " +
-            "(:nome IS NULL OR LOWER(p.nome) LIKE LOWER(CONCAT('%', :nome, '%'))) AND " +
-            "(:cpf IS NULL OR p.cpf = :cpf) AND " +
-            "(:telefone IS NULL OR p.telefone LIKE CONCAT('%', :telefone, '%')) " +
-            "ORDER BY p.nome")
-    List<Paciente> buscarAvancado(@Param("nome") String nome,
-                                  @Param("cpf") String cpf,
-                                  @Param("telefone") String telefone);
 }
\ No newline at end of file
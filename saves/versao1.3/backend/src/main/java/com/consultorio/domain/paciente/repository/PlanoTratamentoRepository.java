@@ -1,12 +1,22 @@
 package com.consultorio.domain.paciente.repository;
 
+import com.consultorio.domain.paciente.DTOs.DenteStatusDTO;
+import com.consultorio.domain.paciente.DTOs.OrcamentoAbertoDentistaMesDTO;
+import com.consultorio.domain.paciente.DTOs.PlanoTratamentoResponseDTO;
+import com.consultorio.domain.paciente.DTOs.PlanoTratamentoTotalDenteDTO;
+import com.consultorio.domain.paciente.DTOs.PlanoTratamentoTotalStatusDTO;
 import com.consultorio.domain.paciente.entity.PlanoTratamento;
+import com.consultorio.domain.paciente.Enums.Dente;
 import com.consultorio.domain.paciente.Enums.StatusPlanoTratamento;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -15,6 +25,8 @@ public interface PlanoTratamentoRepository extends JpaRepository<PlanoTratamento
 
     List<PlanoTratamento> findByPacienteId(Long pacienteId);
 
+    List<PlanoTratamento> findByPacienteIdOrderByDataCriacaoDesc(Long pacienteId);
+
     List<PlanoTratamento> findByStatus(StatusPlanoTratamento status);
 
     @Query("SELECT pt FROM PlanoTratamento pt WHERE pt.status = 'ATIVO'")
@@ -23,10 +35,84 @@ public interface PlanoTratamentoRepository extends JpaRepository<PlanoTratamento
     List<PlanoTratamento> findByProcedimentoContainingIgnoreCase(String procedimento);
 
     @Query("SELECT SUM(pt.valorTotal) FROM PlanoTratamento pt WHERE pt.paciente.id = :pacienteId")
-    Double calcularValorTotalPorPaciente(@Param("pacienteId") Long pacienteId);
+    BigDecimal calcularValorTotalPorPaciente(@Param("pacienteId") Long pacienteId);
 
     @Query("SELECT COUNT(pt) FROM PlanoTratamento pt WHERE pt.paciente.id = :pacienteId AND pt.status = 'ATIVO'")
     Long countPlanosAtivosPorPaciente(@Param("pacienteId") Long pacienteId);
 
-    boolean existsByPacienteIdAndDenteAndStatus(Long pacienteId, String dente, StatusPlanoTratamento status);
+    boolean existsByPacienteIdAndDenteAndStatus(Long pacienteId, Dente dente, StatusPlanoTratamento status);
+
+    // Versão em lote de existsByPacienteIdAndDenteAndStatus: todos os dentes em uma consulta
+    @Query("SELECT DISTINCT pt.dente FROM PlanoTratamento pt " +
+            "WHERE pt.paciente.id = :pacienteId AND pt.dente IN :dentes AND pt.status = :status")
+    List<Dente> findDentesComStatus(@Param("pacienteId") Long pacienteId,
+                                    @Param("dentes") Collection<Dente> dentes,
+                                    @Param("status") StatusPlanoTratamento status);
+
+    // Odontograma: o plano alterado por último define o status atual de cada dente
+    @Query("SELECT new com.consultorio.domain.paciente.DTOs.DenteStatusDTO(pt.dente, pt.status) " +
+            "FROM PlanoTratamento pt WHERE pt.paciente.id = :pacienteId " +
+            "ORDER BY pt.dataAtualizacao, pt.id")
+    List<DenteStatusDTO> listarDentesStatus(@Param("pacienteId") Long pacienteId);
+
+    // ========== RESPOSTAS (plano + nome do paciente em uma consulta, sem carregar Paciente) ==========
+
+    @Query("SELECT new com.consultorio.domain.paciente.DTOs.PlanoTratamentoResponseDTO(" +
+            "pt.id, p.id, p.nome, pt.dentistaId, pt.dente, pt.procedimento, pt.valor, pt.observacao, " +
+            "pt.valorTotal, pt.status, pt.dataInicio, pt.dataConclusao, pt.dataCancelamento, " +
+            "pt.motivoCancelamento, pt.dataCriacao, pt.dataAtualizacao) " +
+            "FROM PlanoTratamento pt JOIN pt.paciente p WHERE pt.id = :id")
+    Optional<PlanoTratamentoResponseDTO> buscarRespostaPorId(@Param("id") Long id);
+
+    @Query("SELECT new com.consultorio.domain.paciente.DTOs.PlanoTratamentoResponseDTO(" +
+            "pt.id, p.id, p.nome, pt.dentistaId, pt.dente, pt.procedimento, pt.valor, pt.observacao, " +
+            "pt.valorTotal, pt.status, pt.dataInicio, pt.dataConclusao, pt.dataCancelamento, " +
+            "pt.motivoCancelamento, pt.dataCriacao, pt.dataAtualizacao) " +
+            "FROM PlanoTratamento pt JOIN pt.paciente p WHERE p.id = :pacienteId ORDER BY pt.id")
+    List<PlanoTratamentoResponseDTO> listarRespostasPorPaciente(@Param("pacienteId") Long pacienteId);
+
+    @Query("SELECT new com.consultorio.domain.paciente.DTOs.PlanoTratamentoResponseDTO(" +
+            "pt.id, p.id, p.nome, pt.dentistaId, pt.dente, pt.procedimento, pt.valor, pt.observacao, " +
+            "pt.valorTotal, pt.status, pt.dataInicio, pt.dataConclusao, pt.dataCancelamento, " +
+            "pt.motivoCancelamento, pt.dataCriacao, pt.dataAtualizacao) " +
+            "FROM PlanoTratamento pt JOIN pt.paciente p WHERE pt.status = :status ORDER BY pt.id")
+    List<PlanoTratamentoResponseDTO> listarRespostasPorStatus(@Param("status") StatusPlanoTratamento status);
+
+    @Query("SELECT new com.consultorio.domain.paciente.DTOs.PlanoTratamentoResponseDTO(" +
+            "pt.id, p.id, p.nome, pt.dentistaId, pt.dente, pt.procedimento, pt.valor, pt.observacao, " +
+            "pt.valorTotal, pt.status, pt.dataInicio, pt.dataConclusao, pt.dataCancelamento, " +
+            "pt.motivoCancelamento, pt.dataCriacao, pt.dataAtualizacao) " +
+            "FROM PlanoTratamento pt JOIN pt.paciente p " +
+            "WHERE LOWER(pt.procedimento) LIKE LOWER(CONCAT('%', :procedimento, '%')) ORDER BY pt.id")
+    List<PlanoTratamentoResponseDTO> listarRespostasPorProcedimento(@Param("procedimento") String procedimento);
+
+    // ========== AGREGAÇÕES (GROUP BY no banco, sem carregar entidades) ==========
+
+    @Query("SELECT new com.consultorio.domain.paciente.DTOs.PlanoTratamentoTotalStatusDTO(" +
+            "pt.status, COUNT(pt), SUM(pt.valorTotal)) " +
+            "FROM PlanoTratamento pt WHERE pt.paciente.id = :pacienteId " +
+            "GROUP BY pt.status ORDER BY pt.status")
+    List<PlanoTratamentoTotalStatusDTO> totalizarPorStatus(@Param("pacienteId") Long pacienteId);
+
+    @Query("SELECT new com.consultorio.domain.paciente.DTOs.PlanoTratamentoTotalDenteDTO(" +
+            "pt.dente, COUNT(pt), SUM(pt.valorTotal)) " +
+            "FROM PlanoTratamento pt WHERE pt.paciente.id = :pacienteId " +
+            "GROUP BY pt.dente ORDER BY pt.dente")
+    List<PlanoTratamentoTotalDenteDTO> totalizarPorDente(@Param("pacienteId") Long pacienteId);
+
+    @Query("SELECT pt.procedimento FROM PlanoTratamento pt WHERE pt.paciente.id = :pacienteId " +
+            "GROUP BY pt.procedimento ORDER BY COUNT(pt) DESC, pt.procedimento")
+    List<String> findProcedimentosMaisComuns(@Param("pacienteId") Long pacienteId, Pageable pageable);
+
+    // Toda a clínica: percorre o índice (status, data_criacao) da migração V2, que já inclui dentista e valor
+    @Query("SELECT new com.consultorio.domain.paciente.DTOs.OrcamentoAbertoDentistaMesDTO(" +
+            "pt.dentistaId, d.nome, YEAR(pt.dataCriacao), MONTH(pt.dataCriacao), COUNT(pt), SUM(pt.valorTotal)) " +
+            "FROM PlanoTratamento pt LEFT JOIN Dentista d ON d.id = pt.dentistaId " +
+            "WHERE pt.status IN :status AND pt.dataCriacao >= :inicio AND pt.dataCriacao < :fim " +
+            "GROUP BY pt.dentistaId, d.nome, YEAR(pt.dataCriacao), MONTH(pt.dataCriacao) " +
+            "ORDER BY YEAR(pt.dataCriacao), MONTH(pt.dataCriacao), d.nome")
+    List<OrcamentoAbertoDentistaMesDTO> totalizarOrcamentosAbertosPorDentistaEMes(
+            @Param("status") Collection<StatusPlanoTratamento> status,
+            @Param("inicio") LocalDateTime inicio,
+            @Param("fim") LocalDateTime fim);
 }
\ No newline at end of file
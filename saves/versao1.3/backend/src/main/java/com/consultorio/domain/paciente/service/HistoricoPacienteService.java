@@ -0,0 +1,144 @@
+package com.consultorio.domain.paciente.service;
+
+import com.consultorio.domain.agenda.AgendaRepository;
+import com.consultorio.domain.agenda.NomeDentistaPropagadoEvent;
+import com.consultorio.domain.paciente.DTOs.*;
+import com.consultorio.domain.paciente.converter.PacienteConverter;
+import com.consultorio.domain.paciente.converter.PlanoTratamentoConverter;
+import com.consultorio.domain.paciente.entity.Paciente;
+import com.consultorio.domain.paciente.erro.PacienteNotFoundException;
+import com.consultorio.domain.paciente.event.HistoricoPacienteAlteradoEvent;
+import com.consultorio.domain.paciente.event.PacienteAlteradoEvent;
+import com.consultorio.domain.paciente.repository.PacienteRepository;
+import com.consultorio.domain.paciente.repository.PlanoTratamentoRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+// Histórico completo do paciente em seis consultas (paciente + anamnese, as três listas da anamnese por
+// subselect, planos, agendamentos), com cache de leitura por paciente invalidado após o commit de
+// qualquer escrita nos dados dele
+@Slf4j
+@Service
+public class HistoricoPacienteService {
+
+    static final int LIMITE_CONSULTAS = 50;
+    private static final int TAMANHO_MAXIMO_CACHE = 1_000;
+    private static final Duration TTL = Duration.ofMinutes(5);
+
+    private final PacienteRepository pacienteRepository;
+    private final PlanoTratamentoRepository planoTratamentoRepository;
+    private final AgendaRepository agendaRepository;
+    private final PacienteConverter converter;
+    private final PlanoTratamentoConverter planoConverter;
+    private final TransactionTemplate leitura;
+
+    // LRU por ordem de acesso; geracao descarta cargas que começaram antes de uma invalidação
+    private final LinkedHashMap<Long, Entrada> cache;
+    private long geracao;
+
+    public HistoricoPacienteService(PacienteRepository pacienteRepository,
+                                    PlanoTratamentoRepository planoTratamentoRepository,
+                                    AgendaRepository agendaRepository,
+                                    PacienteConverter converter,
+                                    PlanoTratamentoConverter planoConverter,
+                                    PlatformTransactionManager transactionManager) {
+        this.pacienteRepository = pacienteRepository;
+        this.planoTratamentoRepository = planoTratamentoRepository;
+        this.agendaRepository = agendaRepository;
+        this.converter = converter;
+        this.planoConverter = planoConverter;
+        this.leitura = new TransactionTemplate(transactionManager);
+        this.leitura.setReadOnly(true);
+        this.cache = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Entrada> maisAntiga) {
+                return size() > TAMANHO_MAXIMO_CACHE;
+            }
+        };
+    }
+
+    public PacienteHistoricoDTO obter(Long pacienteId) {
+        long agora = System.nanoTime();
+        long geracaoDaCarga;
+
+        synchronized (this) {
+            Entrada entrada = cache.get(pacienteId);
+            if (entrada != null && agora - entrada.carregadoEm() < TTL.toNanos()) {
+                return entrada.historico();
+            }
+            geracaoDaCarga = geracao;
+        }
+
+        PacienteHistoricoDTO historico = leitura.execute(status -> carregar(pacienteId));
+
+        synchronized (this) {
+            if (geracao == geracaoDaCarga) {
+                cache.put(pacienteId, new Entrada(historico, agora));
+            }
+        }
+        return historico;
+    }
+
+    // ========== INVALIDAÇÃO ==========
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void invalidar(PacienteAlteradoEvent evento) {
+        invalidar(evento.pacienteId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void invalidar(HistoricoPacienteAlteradoEvent evento) {
+        invalidar(evento.pacienteId());
+    }
+
+    // O nome do dentista aparece nas consultas de vários pacientes e é lido de agendamentos.dentista_nome:
+    // o cache só é descartado depois que a propagação assíncrona do novo nome faz commit
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void invalidar(NomeDentistaPropagadoEvent evento) {
+        log.debug("Invalidando históricos em cache após renomear o dentista ID: {}", evento.dentistaId());
+        geracao++;
+        cache.clear();
+    }
+
+    private synchronized void invalidar(Long pacienteId) {
+        log.debug("Invalidando histórico em cache do paciente ID: {}", pacienteId);
+        geracao++;
+        cache.remove(pacienteId);
+    }
+
+    // ========== CARGA ==========
+
+    private PacienteHistoricoDTO carregar(Long pacienteId) {
+        log.info("Carregando histórico completo do paciente ID: {}", pacienteId);
+
+        Paciente paciente = pacienteRepository.buscarComAnamnese(pacienteId)
+                .orElseThrow(() -> new PacienteNotFoundException("Paciente não encontrado com ID: " + pacienteId));
+
+        // O nome do paciente já carregado é passado adiante: nenhum plano inicializa o proxy de paciente
+        List<PlanoTratamentoResponseDTO> planos = planoConverter.toResponseDTOs(
+                planoTratamentoRepository.findByPacienteIdOrderByDataCriacaoDesc(pacienteId), paciente.getNome());
+
+        List<ConsultaResumoDTO> consultas = agendaRepository.findConsultasResumoPorPaciente(
+                pacienteId, PageRequest.of(0, LIMITE_CONSULTAS));
+
+        return PacienteHistoricoDTO.builder()
+                .dadosPessoais(converter.fromEntity(paciente).toResponse())
+                .anamnese(converter.toAnamneseDTO(paciente.getAnamnese()))
+                .planosTratamento(planos)
+                .ultimasConsultas(consultas)
+                .dataCadastro(paciente.getDataCadastro())
+                .dataUltimaAtualizacao(paciente.getDataAtualizacao())
+                .build();
+    }
+
+    private record Entrada(PacienteHistoricoDTO historico, long carregadoEm) {}
+}
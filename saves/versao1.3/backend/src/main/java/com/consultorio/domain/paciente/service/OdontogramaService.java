@@ -0,0 +1,141 @@
+package com.consultorio.domain.paciente.service;
+
+import com.consultorio.domain.paciente.DTOs.DenteStatusDTO;
+import com.consultorio.domain.paciente.DTOs.OdontogramaDTO;
+import com.consultorio.domain.paciente.Enums.Dente;
+import com.consultorio.domain.paciente.Enums.StatusPlanoTratamento;
+import com.consultorio.domain.paciente.erro.PacienteNotFoundException;
+import com.consultorio.domain.paciente.event.OdontogramaAlteradoEvent;
+import com.consultorio.domain.paciente.event.PacienteAlteradoEvent;
+import com.consultorio.domain.paciente.repository.PacienteRepository;
+import com.consultorio.domain.paciente.repository.PlanoTratamentoRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+// Status atual de cada dente do paciente (o do plano alterado por último), guardado como um byte
+// por dente na ordem de Dente.values(): 0 = sem plano, status.ordinal() + 1 caso contrário.
+// Mudanças de status atualizam só o dente do plano; as demais escritas descartam o paciente do cache
+@Slf4j
+@Service
+public class OdontogramaService {
+
+    private static final int TAMANHO_MAXIMO_CACHE = 5_000;
+    private static final Dente[] DENTES = Dente.values();
+    private static final StatusPlanoTratamento[] STATUS = StatusPlanoTratamento.values();
+
+    private final PlanoTratamentoRepository planoTratamentoRepository;
+    private final PacienteRepository pacienteRepository;
+    private final TransactionTemplate leitura;
+
+    // LRU por ordem de acesso; os arrays nunca são alterados depois de entrar no cache (cópia na escrita)
+    private final LinkedHashMap<Long, byte[]> cache;
+    private long geracao;
+
+    public OdontogramaService(PlanoTratamentoRepository planoTratamentoRepository,
+                              PacienteRepository pacienteRepository,
+                              PlatformTransactionManager transactionManager) {
+        this.planoTratamentoRepository = planoTratamentoRepository;
+        this.pacienteRepository = pacienteRepository;
+        this.leitura = new TransactionTemplate(transactionManager);
+        this.leitura.setReadOnly(true);
+        this.cache = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, byte[]> maisAntigo) {
+                return size() > TAMANHO_MAXIMO_CACHE;
+            }
+        };
+    }
+
+    public OdontogramaDTO obter(Long pacienteId) {
+        return toDTO(pacienteId, estados(pacienteId));
+    }
+
+    private byte[] estados(Long pacienteId) {
+        long geracaoDaCarga;
+        synchronized (this) {
+            byte[] estados = cache.get(pacienteId);
+            if (estados != null) {
+                return estados;
+            }
+            geracaoDaCarga = geracao;
+        }
+
+        byte[] carregados = leitura.execute(status -> carregar(pacienteId));
+
+        synchronized (this) {
+            if (geracao == geracaoDaCarga) {
+                cache.put(pacienteId, carregados);
+            }
+        }
+        return carregados;
+    }
+
+    // ========== ATUALIZAÇÃO ==========
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void atualizar(OdontogramaAlteradoEvent evento) {
+        synchronized (this) {
+            geracao++;
+            if (!evento.isIncremental()) {
+                cache.remove(evento.pacienteId());
+                return;
+            }
+
+            byte[] atuais = cache.get(evento.pacienteId());
+            if (atuais != null) {
+                byte[] novos = atuais.clone();
+                novos[evento.dente().ordinal()] = codigo(evento.status());
+                cache.put(evento.pacienteId(), novos);
+            }
+        }
+        log.debug("Odontograma do paciente ID: {} atualizado", evento.pacienteId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void remover(PacienteAlteradoEvent evento) {
+        if (evento.isExclusao()) {
+            synchronized (this) {
+                geracao++;
+                cache.remove(evento.pacienteId());
+            }
+        }
+    }
+
+    // ========== CARGA ==========
+
+    private byte[] carregar(Long pacienteId) {
+        List<DenteStatusDTO> planos = planoTratamentoRepository.listarDentesStatus(pacienteId);
+        if (planos.isEmpty() && !pacienteRepository.existsById(pacienteId)) {
+            throw new PacienteNotFoundException("Paciente não encontrado com ID: " + pacienteId);
+        }
+
+        byte[] estados = new byte[DENTES.length];
+        for (DenteStatusDTO plano : planos) {
+            estados[plano.dente().ordinal()] = codigo(plano.status());
+        }
+        return estados;
+    }
+
+    private static byte codigo(StatusPlanoTratamento status) {
+        return (byte) (status.ordinal() + 1);
+    }
+
+    private static OdontogramaDTO toDTO(Long pacienteId, byte[] estados) {
+        List<StatusPlanoTratamento> lista = new ArrayList<>(estados.length);
+        for (byte estado : estados) {
+            lista.add(estado == 0 ? null : STATUS[estado - 1]);
+        }
+        return OdontogramaDTO.builder()
+                .pacienteId(pacienteId)
+                .estados(lista)
+                .build();
+    }
+}
@@ -1,24 +1,26 @@
 package com.consultorio.domain.paciente.service;
 
 import com.consultorio.domain.paciente.DTOs.*;
+import com.consultorio.domain.paciente.busca.NormalizadorBusca;
 import com.consultorio.domain.paciente.converter.PacienteConverter;
 import com.consultorio.domain.paciente.entity.Paciente;
-import com.consultorio.domain.paciente.entity.PlanoTratamento;
 import com.consultorio.domain.paciente.Enums.StatusPaciente;
-import com.consultorio.domain.paciente.Enums.StatusPlanoTratamento;
 import com.consultorio.domain.paciente.erro.PacienteDuplicadoException;
 import com.consultorio.domain.paciente.erro.PacienteNotFoundException;
+import com.consultorio.domain.paciente.event.HistoricoPacienteAlteradoEvent;
+import com.consultorio.domain.paciente.event.PacienteAlteradoEvent;
 import com.consultorio.domain.paciente.repository.PacienteRepository;
-import com.consultorio.domain.paciente.repository.PlanoTratamentoRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
 
 @Slf4j
 @Service
@@ -26,8 +28,9 @@ import java.util.stream.Collectors;
 public class PacienteService {
 
     private final PacienteRepository repository;
-    private final PlanoTratamentoRepository planoTratamentoRepository;
     private final PacienteConverter converter;
+    private final ApplicationEventPublisher eventPublisher;
+    private final HistoricoPacienteService historicoService;
 
     // ========== OPERAÇÕES CRUD BÁSICAS ==========
 
@@ -38,6 +41,7 @@ public class PacienteService {
         validarUnicidadeCriacao(createDTO);
         Paciente paciente = converter.fromCreate(createDTO).toEntity();
         Paciente pacienteSalvo = repository.save(paciente);
+        eventPublisher.publishEvent(new PacienteAlteradoEvent(pacienteSalvo.getId(), null, pacienteSalvo.getNome()));
 
         log.info("Paciente criado com ID: {}", pacienteSalvo.getId());
         return converter.fromEntity(pacienteSalvo).toResponse();
@@ -61,8 +65,10 @@ public class PacienteService {
         Paciente paciente = repository.findById(id)
                 .orElseThrow(() -> new PacienteNotFoundException("Paciente não encontrado com ID: " + id));
 
+        String nomeAnterior = paciente.getNome();
         converter.fromUpdate(updateDTO).updateEntity(paciente);
         Paciente pacienteAtualizado = repository.save(paciente);
+        eventPublisher.publishEvent(new PacienteAlteradoEvent(id, nomeAnterior, pacienteAtualizado.getNome()));
 
         log.info("Paciente ID: {} atualizado com sucesso", id);
         return converter.fromEntity(pacienteAtualizado).toResponse();
@@ -78,6 +84,7 @@ public class PacienteService {
         }
 
         repository.deleteById(id);
+        eventPublisher.publishEvent(new PacienteAlteradoEvent(id, null, null));
         log.info("Paciente ID: {} excluído com sucesso", id);
     }
 
@@ -92,6 +99,7 @@ public class PacienteService {
 
         paciente.setStatus(statusDTO.status());
         Paciente pacienteAtualizado = repository.save(paciente);
+        eventPublisher.publishEvent(new HistoricoPacienteAlteradoEvent(id));
 
         log.info("Status do paciente ID: {} atualizado para {}", id, statusDTO.status());
         return toResponseDTO(pacienteAtualizado);
@@ -103,10 +111,7 @@ public class PacienteService {
     public List<PacienteListDTO> listarTodos() {
         log.info("Listando todos os pacientes");
 
-        List<Paciente> pacientes = repository.findAllByOrderByDataCadastroDesc();
-        return pacientes.stream()
-                .map(this::toListDTO)
-                .collect(Collectors.toList());
+        return repository.listarResumos();
     }
 
     @Transactional(readOnly = true)
@@ -114,8 +119,7 @@ public class PacienteService {
         log.info("Listando pacientes paginados - página: {}, tamanho: {}",
                 pageable.getPageNumber(), pageable.getPageSize());
 
-        return repository.findAllByOrderByDataCadastroDesc(pageable)
-                .map(this::toListDTO);
+        return repository.listarResumos(pageable);
     }
 
     @Transactional(readOnly = true)
@@ -126,10 +130,7 @@ public class PacienteService {
             return listarTodos();
         }
 
-        List<Paciente> pacientes = repository.findByNomeContainingIgnoreCaseOrderByNome(nome);
-        return pacientes.stream()
-                .map(this::toListDTO)
-                .collect(Collectors.toList());
+        return repository.listarResumosPorNome(NormalizadorBusca.texto(nome));
     }
 
     @Transactional(readOnly = true)
@@ -146,20 +147,14 @@ public class PacienteService {
     public List<PacienteListDTO> listarAtivos() {
         log.info("Listando pacientes ativos");
 
-        List<Paciente> pacientes = repository.findByStatus(StatusPaciente.ATIVO);
-        return pacientes.stream()
-                .map(this::toListDTO)
-                .collect(Collectors.toList());
+        return repository.listarResumosPorStatus(StatusPaciente.ATIVO);
     }
 
     @Transactional(readOnly = true)
     public List<PacienteListDTO> buscarAvancado(String nome, String cpf, String telefone) {
         log.info("Buscando pacientes avançado - nome: {}, cpf: {}, telefone: {}", nome, cpf, telefone);
 
-        List<Paciente> pacientes = repository.buscarAvancado(nome, cpf, telefone);
-        return pacientes.stream()
-                .map(this::toListDTO)
-                .collect(Collectors.toList());
+        return repository.buscarAvancadoResumos(NormalizadorBusca.texto(nome), cpf, telefone);
     }
 
     // ========== ANAMNESE ==========
@@ -174,6 +169,7 @@ public class PacienteService {
         // Aqui você implementaria a lógica específica da anamnese
         // Por enquanto, vamos apenas retornar o paciente atualizado
         Paciente pacienteAtualizado = repository.save(paciente);
+        eventPublisher.publishEvent(new HistoricoPacienteAlteradoEvent(id));
 
         log.info("Anamnese do paciente ID: {} atualizada", id);
         return toResponseDTO(pacienteAtualizado);
@@ -183,123 +179,31 @@ public class PacienteService {
     public AnamneseDTO buscarAnamnesePorPacienteId(Long id) {
         log.info("Buscando anamnese do paciente ID: {}", id);
 
-        Paciente paciente = repository.findById(id)
+        Paciente paciente = repository.buscarComAnamnese(id)
                 .orElseThrow(() -> new PacienteNotFoundException("Paciente não encontrado com ID: " + id));
 
-        // Implemente a lógica específica para buscar a anamnese
-        return AnamneseDTO.builder().build();
-    }
-
-    // ========== PLANO DE TRATAMENTO ==========
-
-    @Transactional
-    public PlanoTratamentoResponseDTO criarPlanoTratamento(Long pacienteId, PlanoTratamentoCreateDTO createDTO) {
-        log.info("Criando plano de tratamento para paciente ID: {}", pacienteId);
-
-        Paciente paciente = repository.findById(pacienteId)
-                .orElseThrow(() -> new PacienteNotFoundException("Paciente não encontrado com ID: " + pacienteId));
-
-        PlanoTratamento planoTratamento = toPlanoTratamentoEntity(createDTO, paciente);
-        PlanoTratamento planoSalvo = planoTratamentoRepository.save(planoTratamento);
-
-        log.info("Plano de tratamento criado com ID: {}", planoSalvo.getId());
-        return toPlanoTratamentoResponseDTO(planoSalvo);
+        return converter.toAnamneseDTO(paciente.getAnamnese());
     }
 
+    // Anamneses de vários pacientes em número constante de consultas (ver Anamnese)
     @Transactional(readOnly = true)
-    public List<PlanoTratamentoResponseDTO> listarPlanosTratamentoPorPaciente(Long pacienteId) {
-        log.info("Listando planos de tratamento para paciente ID: {}", pacienteId);
+    public Map<Long, AnamneseDTO> buscarAnamnesesPorPacienteIds(List<Long> ids) {
+        log.info("Buscando anamneses de {} pacientes", ids.size());
 
-        if (!repository.existsById(pacienteId)) {
-            throw new PacienteNotFoundException("Paciente não encontrado com ID: " + pacienteId);
+        Map<Long, AnamneseDTO> anamneses = new LinkedHashMap<>();
+        for (Paciente paciente : repository.buscarComAnamnese(ids)) {
+            anamneses.put(paciente.getId(), converter.toAnamneseDTO(paciente.getAnamnese()));
         }
-
-        return planoTratamentoRepository.findByPacienteId(pacienteId)
-                .stream()
-                .map(this::toPlanoTratamentoResponseDTO)
-                .collect(Collectors.toList());
-    }
-
-    @Transactional(readOnly = true)
-    public PlanoTratamentoResponseDTO buscarPlanoTratamentoPorId(Long planoId) {
-        log.info("Buscando plano de tratamento por ID: {}", planoId);
-
-        PlanoTratamento planoTratamento = planoTratamentoRepository.findById(planoId)
-                .orElseThrow(() -> new RuntimeException("Plano de tratamento não encontrado com ID: " + planoId));
-
-        return toPlanoTratamentoResponseDTO(planoTratamento);
-    }
-
-    @Transactional
-    public PlanoTratamentoResponseDTO atualizarPlanoTratamento(Long planoId, PlanoTratamentoUpdateDTO updateDTO) {
-        log.info("Atualizando plano de tratamento ID: {}", planoId);
-
-        PlanoTratamento planoTratamento = planoTratamentoRepository.findById(planoId)
-                .orElseThrow(() -> new RuntimeException("Plano de tratamento não encontrado com ID: " + planoId));
-
-        updatePlanoTratamentoFromDTO(planoTratamento, updateDTO);
-        PlanoTratamento planoAtualizado = planoTratamentoRepository.save(planoTratamento);
-
-        log.info("Plano de tratamento ID: {} atualizado", planoId);
-        return toPlanoTratamentoResponseDTO(planoAtualizado);
-    }
-
-    @Transactional
-    public void excluirPlanoTratamento(Long planoId) {
-        log.info("Excluindo plano de tratamento ID: {}", planoId);
-
-        if (!planoTratamentoRepository.existsById(planoId)) {
-            throw new RuntimeException("Plano de tratamento não encontrado com ID: " + planoId);
-        }
-
-        planoTratamentoRepository.deleteById(planoId);
-        log.info("Plano de tratamento ID: {} excluído", planoId);
-    }
-
-    @Transactional(readOnly = true)
-    public PlanoTratamentoPacienteDTO obterResumoPlanosTratamento(Long pacienteId) {
-        log.info("Obtendo resumo de planos de tratamento para paciente ID: {}", pacienteId);
-
-        Paciente paciente = repository.findById(pacienteId)
-                .orElseThrow(() -> new PacienteNotFoundException("Paciente não encontrado com ID: " + pacienteId));
-
-        List<PlanoTratamento> planos = planoTratamentoRepository.findByPacienteId(pacienteId);
-
-        Double valorTotalGeral = planos.stream()
-                .mapToDouble(PlanoTratamento::getValorTotal)
-                .sum();
-
-        List<PlanoTratamentoResponseDTO> planosDTO = planos.stream()
-                .map(this::toPlanoTratamentoResponseDTO)
-                .collect(Collectors.toList());
-
-        return PlanoTratamentoPacienteDTO.builder()
-                .pacienteId(paciente.getId())
-                .pacienteNome(paciente.getNome())
-                .planosTratamento(planosDTO)
-                .valorTotalGeral(valorTotalGeral)
-                .build();
+        return anamneses;
     }
 
     // ========== HISTÓRICO COMPLETO ==========
 
-    @Transactional(readOnly = true)
+    // Sem transação aqui: o histórico vem do cache ou é carregado pelo HistoricoPacienteService
     public PacienteHistoricoDTO obterHistoricoCompleto(Long id) {
         log.info("Obtendo histórico completo do paciente ID: {}", id);
 
-        Paciente paciente = repository.findById(id)
-                .orElseThrow(() -> new PacienteNotFoundException("Paciente não encontrado com ID: " + id));
-
-        List<PlanoTratamentoResponseDTO> planos = listarPlanosTratamentoPorPaciente(id);
-        AnamneseDTO anamnese = buscarAnamnesePorPacienteId(id);
-
-        return PacienteHistoricoDTO.builder()
-                .dadosPessoais(toResponseDTO(paciente))
-                .anamnese(anamnese)
-                .planosTratamento(planos)
-                .dataCadastro(paciente.getDataCadastro())
-                .dataUltimaAtualizacao(paciente.getDataAtualizacao())
-                .build();
+        return historicoService.obter(id);
     }
 
     // ========== VALIDAÇÕES ==========
@@ -475,55 +379,4 @@ public class PacienteService {
                 .dataAtualizacao(entity.getDataAtualizacao())
                 .build();
     }
-
-    private PacienteListDTO toListDTO(Paciente entity) {
-        return PacienteListDTO.builder()
-                .id(entity.getId())
-                .nome(entity.getNome())
-                .telefone(entity.getTelefone())
-                .email(entity.getEmail())
-                .dataNascimento(entity.getDataNascimento())
-                .status(entity.getStatus())
-                .build();
-    }
-
-    private PlanoTratamento toPlanoTratamentoEntity(PlanoTratamentoCreateDTO dto, Paciente paciente) {
-        return PlanoTratamento.builder()
-                .paciente(paciente)
-                .dente(dto.dente())
-                .procedimento(dto.procedimento())
-                .valor(dto.valor())
-                .observacao(dto.observacao())
-                .valorTotal(dto.valorTotal())
-                .status(StatusPlanoTratamento.ORCAMENTO)
-                .build();
-    }
-
-    private void updatePlanoTratamentoFromDTO(PlanoTratamento entity, PlanoTratamentoUpdateDTO dto) {
-        entity.setDente(dto.dente());
-        entity.setProcedimento(dto.procedimento());
-        entity.setValor(dto.valor());
-        entity.setObservacao(dto.observacao());
-        entity.setValorTotal(dto.valorTotal());
-    }
-
-    private PlanoTratamentoResponseDTO toPlanoTratamentoResponseDTO(PlanoTratamento entity) {
-        return PlanoTratamentoResponseDTO.builder()
-                .id(entity.getId())
-                .pacienteId(entity.getPaciente().getId())
-                .pacienteNome(entity.getPaciente().getNome())
-                .dente(entity.getDente())
-                .procedimento(entity.getProcedimento())
-                .valor(entity.getValor())
-                .observacao(entity.getObservacao())
-                .valorTotal(entity.getValorTotal())
-                .status(entity.getStatus())
-                .dataInicio(entity.getDataInicio())
-                .dataConclusao(entity.getDataConclusao())
-                .dataCancelamento(entity.getDataCancelamento())
-                .motivoCancelamento(entity.getMotivoCancelamento())
-                .dataCriacao(entity.getDataCriacao())
-                .dataAtualizacao(entity.getDataAtualizacao())
-                .build();
-    }
-}
\ No newline at end of file
+}
@@ -1,75 +1,107 @@
 package com.consultorio.domain.paciente.service;
 
 import com.consultorio.domain.paciente.DTOs.*;
+import com.consultorio.domain.paciente.converter.PlanoTratamentoConverter;
 import com.consultorio.domain.paciente.entity.Paciente;
 import com.consultorio.domain.paciente.entity.PlanoTratamento;
+import com.consultorio.domain.paciente.erro.PacienteNotFoundException;
+import com.consultorio.domain.paciente.event.HistoricoPacienteAlteradoEvent;
+import com.consultorio.domain.paciente.event.OdontogramaAlteradoEvent;
 import com.consultorio.domain.paciente.repository.PacienteRepository;
 import com.consultorio.domain.paciente.repository.PlanoTratamentoRepository;
 import com.consultorio.domain.paciente.Enums.Dente;
 import com.consultorio.domain.paciente.Enums.StatusPlanoTratamento;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.math.BigDecimal;
+import java.time.YearMonth;
+import java.util.EnumSet;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 
+// Único ponto de entrada das operações de plano de tratamento. O paciente entra como referência
+// (getReferenceById) e as respostas levam o nome lido por projeção, nunca pelo proxy de Paciente
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class PlanoTratamentoService {
 
+    private static final int MESES_RELATORIO_PADRAO = 12;
+
     private final PlanoTratamentoRepository planoTratamentoRepository;
     private final PacienteRepository pacienteRepository;
+    private final PlanoTratamentoConverter converter;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public PlanoTratamentoResponseDTO criar(Long pacienteId, PlanoTratamentoCreateDTO createDTO) {
         log.info("Criando plano de tratamento para paciente ID: {}", pacienteId);
 
-        Paciente paciente = pacienteRepository.findById(pacienteId)
-                .orElseThrow(() -> new RuntimeException("Paciente não encontrado com ID: " + pacienteId));
+        String pacienteNome = buscarNomePaciente(pacienteId);
 
-        PlanoTratamento planoTratamento = toEntity(createDTO, paciente);
+        PlanoTratamento planoTratamento = converter.fromCreate(createDTO, referenciaPaciente(pacienteId));
         PlanoTratamento planoSalvo = planoTratamentoRepository.save(planoTratamento);
+        publicarAlteracaoHistorico(planoSalvo);
+        eventPublisher.publishEvent(OdontogramaAlteradoEvent.invalidacao(pacienteId));
 
         log.info("Plano de tratamento criado com ID: {}", planoSalvo.getId());
-        return toResponseDTO(planoSalvo);
+        return converter.toResponseDTO(planoSalvo, pacienteNome);
+    }
+
+    // Nome do paciente, uma consulta de validação para todos os dentes e inserts em batch
+    @Transactional
+    public List<PlanoTratamentoResponseDTO> criarEmLote(Long pacienteId, PlanoTratamentoLoteDTO loteDTO) {
+        List<PlanoTratamentoCreateDTO> itens = loteDTO.planos();
+        log.info("Criando {} planos de tratamento em lote para paciente ID: {}", itens.size(), pacienteId);
+
+        String pacienteNome = buscarNomePaciente(pacienteId);
+        validarLote(pacienteId, itens);
+
+        List<PlanoTratamento> planosSalvos = planoTratamentoRepository.saveAllAndFlush(
+                converter.fromCreateDTOs(itens, referenciaPaciente(pacienteId)));
+        eventPublisher.publishEvent(new HistoricoPacienteAlteradoEvent(pacienteId));
+        eventPublisher.publishEvent(OdontogramaAlteradoEvent.invalidacao(pacienteId));
+
+        log.info("{} planos de tratamento criados para paciente ID: {}", planosSalvos.size(), pacienteId);
+        return converter.toResponseDTOs(planosSalvos, pacienteNome);
     }
 
     @Transactional(readOnly = true)
     public List<PlanoTratamentoResponseDTO> listarPorPaciente(Long pacienteId) {
         log.info("Listando planos de tratamento para paciente ID: {}", pacienteId);
 
-        if (!pacienteRepository.existsById(pacienteId)) {
-            throw new RuntimeException("Paciente não encontrado com ID: " + pacienteId);
+        List<PlanoTratamentoResponseDTO> planos = planoTratamentoRepository.listarRespostasPorPaciente(pacienteId);
+        if (planos.isEmpty()) {
+            validarPacienteExiste(pacienteId);
         }
-
-        return planoTratamentoRepository.findByPacienteId(pacienteId)
-                .stream()
-                .map(this::toResponseDTO)
-                .collect(Collectors.toList());
+        return planos;
     }
 
     @Transactional(readOnly = true)
     public PlanoTratamentoResponseDTO buscarPorId(Long planoId) {
         log.info("Buscando plano de tratamento com ID: {}", planoId);
 
-        PlanoTratamento planoTratamento = planoTratamentoRepository.findById(planoId)
+        return planoTratamentoRepository.buscarRespostaPorId(planoId)
                 .orElseThrow(() -> new RuntimeException("Plano de tratamento não encontrado com ID: " + planoId));
-
-        return toResponseDTO(planoTratamento);
     }
 
     @Transactional
     public PlanoTratamentoResponseDTO atualizar(Long planoId, PlanoTratamentoUpdateDTO updateDTO) {
         log.info("Atualizando plano de tratamento com ID: {}", planoId);
 
-        PlanoTratamento planoTratamento = planoTratamentoRepository.findById(planoId)
-                .orElseThrow(() -> new RuntimeException("Plano de tratamento não encontrado com ID: " + planoId));
+        PlanoTratamento planoTratamento = buscarPlano(planoId);
 
-        updateEntityFromDTO(planoTratamento, updateDTO);
+        converter.updateFromDTO(planoTratamento, updateDTO);
         PlanoTratamento planoAtualizado = planoTratamentoRepository.save(planoTratamento);
+        publicarAlteracaoHistorico(planoAtualizado);
+        eventPublisher.publishEvent(OdontogramaAlteradoEvent.invalidacao(planoAtualizado.getPaciente().getId()));
 
         log.info("Plano de tratamento atualizado com ID: {}", planoAtualizado.getId());
         return toResponseDTO(planoAtualizado);
@@ -79,11 +111,11 @@ public class PlanoTratamentoService {
     public void deletar(Long planoId) {
         log.info("Deletando plano de tratamento com ID: {}", planoId);
 
-        if (!planoTratamentoRepository.existsById(planoId)) {
-            throw new RuntimeException("Plano de tratamento não encontrado com ID: " + planoId);
-        }
+        PlanoTratamento planoTratamento = buscarPlano(planoId);
 
-        planoTratamentoRepository.deleteById(planoId);
+        planoTratamentoRepository.delete(planoTratamento);
+        publicarAlteracaoHistorico(planoTratamento);
+        eventPublisher.publishEvent(OdontogramaAlteradoEvent.invalidacao(planoTratamento.getPaciente().getId()));
         log.info("Plano de tratamento deletado com ID: {}", planoId);
     }
 
@@ -91,79 +123,82 @@ public class PlanoTratamentoService {
     public PlanoTratamentoPacienteDTO obterResumoPorPaciente(Long pacienteId) {
         log.info("Obtendo resumo de planos de tratamento para paciente ID: {}", pacienteId);
 
-        Paciente paciente = pacienteRepository.findById(pacienteId)
-                .orElseThrow(() -> new RuntimeException("Paciente não encontrado com ID: " + pacienteId));
+        String pacienteNome = buscarNomePaciente(pacienteId);
+        List<PlanoTratamentoResponseDTO> planos = planoTratamentoRepository.listarRespostasPorPaciente(pacienteId);
 
-        List<PlanoTratamento> planos = planoTratamentoRepository.findByPacienteId(pacienteId);
+        return converter.toPlanoTratamentoPacienteDTO(pacienteId, pacienteNome, planos);
+    }
+
+    // Contagens e valores por status e por dente agregados no banco, sem carregar os planos
+    @Transactional(readOnly = true)
+    public PlanoTratamentoResumoDTO obterEstatisticasPorPaciente(Long pacienteId) {
+        log.info("Obtendo estatísticas de planos de tratamento para paciente ID: {}", pacienteId);
 
-        Double valorTotalGeral = planos.stream()
-                .mapToDouble(PlanoTratamento::getValorTotal)
-                .sum();
+        validarPacienteExiste(pacienteId);
+
+        String procedimentoMaisComum = planoTratamentoRepository
+                .findProcedimentosMaisComuns(pacienteId, PageRequest.of(0, 1))
+                .stream()
+                .findFirst()
+                .orElse(null);
+
+        return converter.toResumoDTO(
+                pacienteId,
+                planoTratamentoRepository.totalizarPorStatus(pacienteId),
+                planoTratamentoRepository.totalizarPorDente(pacienteId),
+                procedimentoMaisComum);
+    }
 
-        List<PlanoTratamentoResponseDTO> planosDTO = planos.stream()
-                .map(this::toResponseDTO)
-                .collect(Collectors.toList());
+    // Valor em orçamentos abertos por dentista e mês de criação; sem período, os últimos 12 meses
+    @Transactional(readOnly = true)
+    public List<OrcamentoAbertoDentistaMesDTO> totalizarOrcamentosAbertos(YearMonth de, YearMonth ate) {
+        YearMonth fim = ate != null ? ate : YearMonth.now();
+        YearMonth inicio = de != null ? de : fim.minusMonths(MESES_RELATORIO_PADRAO - 1);
+        if (inicio.isAfter(fim)) {
+            throw new IllegalArgumentException("Mês inicial deve ser anterior ou igual ao mês final");
+        }
 
-        return PlanoTratamentoPacienteDTO.builder()
-                .pacienteId(paciente.getId())
-                .pacienteNome(paciente.getNome())
-                .planosTratamento(planosDTO)
-                .valorTotalGeral(valorTotalGeral)
-                .build();
+        log.info("Totalizando orçamentos abertos por dentista de {} a {}", inicio, fim);
+        return planoTratamentoRepository.totalizarOrcamentosAbertosPorDentistaEMes(
+                List.of(StatusPlanoTratamento.getStatusOrcamentoAberto()),
+                inicio.atDay(1).atStartOfDay(),
+                fim.plusMonths(1).atDay(1).atStartOfDay());
     }
 
     @Transactional(readOnly = true)
     public List<PlanoTratamentoResponseDTO> listarAtivos() {
         log.info("Listando planos de tratamento ativos");
 
-        return planoTratamentoRepository.findByStatus(StatusPlanoTratamento.ATIVO)
-                .stream()
-                .map(this::toResponseDTO)
-                .collect(Collectors.toList());
+        return planoTratamentoRepository.listarRespostasPorStatus(StatusPlanoTratamento.ATIVO);
     }
 
     @Transactional(readOnly = true)
     public List<PlanoTratamentoResponseDTO> buscarPorProcedimento(String procedimento) {
         log.info("Buscando planos de tratamento por procedimento: {}", procedimento);
 
-        return planoTratamentoRepository.findByProcedimentoContainingIgnoreCase(procedimento)
-                .stream()
-                .map(this::toResponseDTO)
-                .collect(Collectors.toList());
+        return planoTratamentoRepository.listarRespostasPorProcedimento(procedimento);
     }
 
     @Transactional
     public PlanoTratamentoResponseDTO atualizarStatus(Long planoId, StatusPlanoTratamentoDTO statusDTO) {
         log.info("Atualizando status do plano de tratamento ID: {} para {}", planoId, statusDTO.status());
 
-        PlanoTratamento planoTratamento = planoTratamentoRepository.findById(planoId)
-                .orElseThrow(() -> new RuntimeException("Plano de tratamento não encontrado com ID: " + planoId));
+        PlanoTratamento planoTratamento = buscarPlano(planoId);
 
-        planoTratamento.setStatus(statusDTO.status());
-
-        // Atualizar datas conforme o status
-        if (statusDTO.status() == StatusPlanoTratamento.ATIVO && planoTratamento.getDataInicio() == null) {
-            planoTratamento.setDataInicio(java.time.LocalDateTime.now());
-        } else if (statusDTO.status() == StatusPlanoTratamento.CONCLUIDO) {
-            planoTratamento.setDataConclusao(java.time.LocalDateTime.now());
-        } else if (statusDTO.status() == StatusPlanoTratamento.CANCELADO) {
-            planoTratamento.setDataCancelamento(java.time.LocalDateTime.now());
-            planoTratamento.setMotivoCancelamento(statusDTO.motivoCancelamento());
-        }
+        converter.updateStatusFromDTO(planoTratamento, statusDTO);
 
         PlanoTratamento planoAtualizado = planoTratamentoRepository.save(planoTratamento);
+        publicarAlteracaoStatus(planoAtualizado);
 
         log.info("Status do plano de tratamento ID: {} atualizado para {}", planoId, statusDTO.status());
         return toResponseDTO(planoAtualizado);
     }
 
     @Transactional(readOnly = true)
-    public Double obterValorTotalPorPaciente(Long pacienteId) {
+    public BigDecimal obterValorTotalPorPaciente(Long pacienteId) {
         log.info("Calculando valor total dos planos para paciente ID: {}", pacienteId);
 
-        if (!pacienteRepository.existsById(pacienteId)) {
-            throw new RuntimeException("Paciente não encontrado com ID: " + pacienteId);
-        }
+        validarPacienteExiste(pacienteId);
 
         return planoTratamentoRepository.calcularValorTotalPorPaciente(pacienteId);
     }
@@ -172,11 +207,11 @@ public class PlanoTratamentoService {
     public PlanoTratamentoResponseDTO concluirPlano(Long planoId) {
         log.info("Concluindo plano de tratamento ID: {}", planoId);
 
-        PlanoTratamento planoTratamento = planoTratamentoRepository.findById(planoId)
-                .orElseThrow(() -> new RuntimeException("Plano de tratamento não encontrado com ID: " + planoId));
+        PlanoTratamento planoTratamento = buscarPlano(planoId);
 
         planoTratamento.concluir();
         PlanoTratamento planoConcluido = planoTratamentoRepository.save(planoTratamento);
+        publicarAlteracaoStatus(planoConcluido);
 
         log.info("Plano de tratamento ID: {} concluído com sucesso", planoId);
         return toResponseDTO(planoConcluido);
@@ -186,11 +221,11 @@ public class PlanoTratamentoService {
     public PlanoTratamentoResponseDTO cancelarPlano(Long planoId, String motivo) {
         log.info("Cancelando plano de tratamento ID: {} - Motivo: {}", planoId, motivo);
 
-        PlanoTratamento planoTratamento = planoTratamentoRepository.findById(planoId)
-                .orElseThrow(() -> new RuntimeException("Plano de tratamento não encontrado com ID: " + planoId));
+        PlanoTratamento planoTratamento = buscarPlano(planoId);
 
         planoTratamento.cancelar(motivo);
         PlanoTratamento planoCancelado = planoTratamentoRepository.save(planoTratamento);
+        publicarAlteracaoStatus(planoCancelado);
 
         log.info("Plano de tratamento ID: {} cancelado", planoId);
         return toResponseDTO(planoCancelado);
@@ -200,11 +235,11 @@ public class PlanoTratamentoService {
     public PlanoTratamentoResponseDTO ativarPlano(Long planoId) {
         log.info("Ativando plano de tratamento ID: {}", planoId);
 
-        PlanoTratamento planoTratamento = planoTratamentoRepository.findById(planoId)
-                .orElseThrow(() -> new RuntimeException("Plano de tratamento não encontrado com ID: " + planoId));
+        PlanoTratamento planoTratamento = buscarPlano(planoId);
 
         planoTratamento.ativar();
         PlanoTratamento planoAtivado = planoTratamentoRepository.save(planoTratamento);
+        publicarAlteracaoStatus(planoAtivado);
 
         log.info("Plano de tratamento ID: {} ativado", planoId);
         return toResponseDTO(planoAtivado);
@@ -214,51 +249,69 @@ public class PlanoTratamentoService {
     public List<PlanoTratamentoResponseDTO> listarPorStatus(StatusPlanoTratamento status) {
         log.info("Listando planos de tratamento com status: {}", status);
 
-        return planoTratamentoRepository.findByStatus(status)
-                .stream()
-                .map(this::toResponseDTO)
-                .collect(Collectors.toList());
+        return planoTratamentoRepository.listarRespostasPorStatus(status);
+    }
+
+    private void validarLote(Long pacienteId, List<PlanoTratamentoCreateDTO> itens) {
+        Set<Dente> dentes = EnumSet.noneOf(Dente.class);
+        Set<String> pares = new HashSet<>();
+        for (PlanoTratamentoCreateDTO item : itens) {
+            if (!pacienteId.equals(item.pacienteId())) {
+                throw new IllegalArgumentException("Todos os planos do lote devem ser do paciente ID: " + pacienteId);
+            }
+            if (!pares.add(item.dente() + "|" + item.procedimento().trim().toLowerCase())) {
+                throw new IllegalArgumentException("Procedimento repetido no lote para o dente: "
+                        + item.dente().getDescricao());
+            }
+            dentes.add(item.dente());
+        }
+
+        List<Dente> comPlanoAtivo = planoTratamentoRepository.findDentesComStatus(
+                pacienteId, dentes, StatusPlanoTratamento.ATIVO);
+        if (!comPlanoAtivo.isEmpty()) {
+            throw new IllegalStateException("Dentes com plano de tratamento ativo: " + comPlanoAtivo.stream()
+                    .map(Dente::getDescricao)
+                    .collect(Collectors.joining(", ")));
+        }
     }
 
-    // === MÉTODOS DE MAPEAMENTO ===
-
-    private PlanoTratamento toEntity(PlanoTratamentoCreateDTO dto, Paciente paciente) {
-        return PlanoTratamento.builder()
-                .paciente(paciente)
-                .dente(dto.dente()) // Já é do tipo Dente enum
-                .procedimento(dto.procedimento())
-                .valor(dto.valor())
-                .observacao(dto.observacao())
-                .valorTotal(dto.valorTotal())
-                .status(StatusPlanoTratamento.ORCAMENTO) // Status inicial como orçamento
-                .build();
+    // O id do paciente vem da chave estrangeira, sem inicializar o proxy
+    private void publicarAlteracaoHistorico(PlanoTratamento plano) {
+        eventPublisher.publishEvent(new HistoricoPacienteAlteradoEvent(plano.getPaciente().getId()));
+    }
+
+    // Mudança de status: o odontograma em cache é atualizado só no dente do plano
+    private void publicarAlteracaoStatus(PlanoTratamento plano) {
+        publicarAlteracaoHistorico(plano);
+        eventPublisher.publishEvent(new OdontogramaAlteradoEvent(
+                plano.getPaciente().getId(), plano.getDente(), plano.getStatus()));
+    }
+
+    // ========== APOIO ==========
+
+    private PlanoTratamento buscarPlano(Long planoId) {
+        return planoTratamentoRepository.findById(planoId)
+                .orElseThrow(() -> new RuntimeException("Plano de tratamento não encontrado com ID: " + planoId));
+    }
+
+    // Uma coluna em vez da entidade: também serve de verificação de existência
+    private String buscarNomePaciente(Long pacienteId) {
+        return pacienteRepository.findNomeById(pacienteId)
+                .orElseThrow(() -> new PacienteNotFoundException("Paciente não encontrado com ID: " + pacienteId));
+    }
+
+    private void validarPacienteExiste(Long pacienteId) {
+        if (!pacienteRepository.existsById(pacienteId)) {
+            throw new PacienteNotFoundException("Paciente não encontrado com ID: " + pacienteId);
+        }
     }
 
-    private void updateEntityFromDTO(PlanoTratamento entity, PlanoTratamentoUpdateDTO dto) {
-        entity.setDente(dto.dente()); // Já é do tipo Dente enum
-        entity.setProcedimento(dto.procedimento());
-        entity.setValor(dto.valor());
-        entity.setObservacao(dto.observacao());
-        entity.setValorTotal(dto.valorTotal());
+    // Só a chave estrangeira é necessária para gravar o plano
+    private Paciente referenciaPaciente(Long pacienteId) {
+        return pacienteRepository.getReferenceById(pacienteId);
     }
 
-    private PlanoTratamentoResponseDTO toResponseDTO(PlanoTratamento entity) {
-        return PlanoTratamentoResponseDTO.builder()
-                .id(entity.getId())
-                .pacienteId(entity.getPaciente().getId())
-                .pacienteNome(entity.getPaciente().getNome())
-                .dente(entity.getDente())
-                .procedimento(entity.getProcedimento())
-                .valor(entity.getValor())
-                .observacao(entity.getObservacao())
-                .valorTotal(entity.getValorTotal())
-                .status(entity.getStatus())
-                .dataInicio(entity.getDataInicio())
-                .dataConclusao(entity.getDataConclusao())
-                .dataCancelamento(entity.getDataCancelamento())
-                .motivoCancelamento(entity.getMotivoCancelamento())
-                .dataCriacao(entity.getDataCriacao())
-                .dataAtualizacao(entity.getDataAtualizacao())
-                .build();
+    private PlanoTratamentoResponseDTO toResponseDTO(PlanoTratamento plano) {
+        return converter.toResponseDTO(plano, buscarNomePaciente(plano.getPaciente().getId()));
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,38 @@
+package com.consultorio.domain.paciente.valor;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Collection;
+import java.util.function.Function;
+
+// Valores monetários: NUMERIC(12,2) no banco e BigDecimal com duas casas na aplicação.
+// Somas em Java acumulam centavos em um long, sem um BigDecimal intermediário por parcela
+public final class Dinheiro {
+
+    public static final int PRECISAO = 12;
+    public static final int ESCALA = 2;
+
+    public static final BigDecimal ZERO = BigDecimal.ZERO.setScale(ESCALA);
+
+    private Dinheiro() {
+    }
+
+    public static long centavos(BigDecimal valor) {
+        if (valor == null) {
+            return 0L;
+        }
+        return valor.setScale(ESCALA, RoundingMode.HALF_EVEN).movePointRight(ESCALA).longValueExact();
+    }
+
+    public static BigDecimal reais(long centavos) {
+        return BigDecimal.valueOf(centavos, ESCALA);
+    }
+
+    public static <T> BigDecimal somar(Collection<T> itens, Function<T, BigDecimal> valor) {
+        long total = 0L;
+        for (T item : itens) {
+            total = Math.addExact(total, centavos(valor.apply(item)));
+        }
+        return reais(total);
+    }
+}
@@ -0,0 +1,59 @@
+-- Bancos criados pelo antigo ddl-auto=update são marcados na versão 1 sem executar a V1, mas podem ter
+-- sido criados antes das colunas e tabelas que a V1 já traz. Esta versão completa esses bancos antes da
+-- V2 (que preenche agendamentos.data_hora_fim) e do ddl-auto=validate. Em bancos criados pela V1 não
+-- altera nada: toda instrução é condicional.
+
+-- ========== AGENDAMENTOS ==========
+
+ALTER TABLE agendamentos ADD COLUMN IF NOT EXISTS data_hora_fim timestamp(6);
+
+CREATE INDEX IF NOT EXISTS idx_agendamentos_dentista_data_hora ON agendamentos (dentista_id, data_hora);
+CREATE INDEX IF NOT EXISTS idx_agendamentos_paciente_data_hora ON agendamentos (paciente_id, data_hora);
+CREATE INDEX IF NOT EXISTS idx_agendamentos_status_data_hora ON agendamentos (status, data_hora);
+
+-- ========== PACIENTES ==========
+
+-- Preenchidas por Paciente.atualizarTermosBusca na reindexação da inicialização (existsByNomeNormalizadoIsNull)
+ALTER TABLE pacientes ADD COLUMN IF NOT EXISTS nome_normalizado varchar(100);
+ALTER TABLE pacientes ADD COLUMN IF NOT EXISTS termos_busca varchar(200);
+
+-- ========== PLANOS DE TRATAMENTO ==========
+
+ALTER TABLE plano_tratamento ADD COLUMN IF NOT EXISTS dentista_id bigint;
+
+CREATE INDEX IF NOT EXISTS idx_plano_tratamento_paciente_status ON plano_tratamento (paciente_id, status);
+
+-- ========== DENTISTAS (jornada) ==========
+
+ALTER TABLE dentistas ADD COLUMN IF NOT EXISTS duracao_slot_minutos integer;
+
+CREATE TABLE IF NOT EXISTS dentista_expediente (
+    dentista_id bigint       NOT NULL,
+    dia_semana  varchar(255) NOT NULL,
+    hora_inicio time(6)      NOT NULL,
+    hora_fim    time(6)      NOT NULL,
+    CONSTRAINT fk_dentista_expediente_dentista FOREIGN KEY (dentista_id) REFERENCES dentistas (id)
+);
+
+CREATE TABLE IF NOT EXISTS dentista_pausas (
+    dentista_id bigint       NOT NULL,
+    dia_semana  varchar(255) NOT NULL,
+    hora_inicio time(6)      NOT NULL,
+    hora_fim    time(6)      NOT NULL,
+    CONSTRAINT fk_dentista_pausas_dentista FOREIGN KEY (dentista_id) REFERENCES dentistas (id)
+);
+
+CREATE TABLE IF NOT EXISTS dentista_folgas (
+    dentista_id bigint NOT NULL,
+    data        date   NOT NULL,
+    CONSTRAINT dentista_folgas_pkey PRIMARY KEY (dentista_id, data),
+    CONSTRAINT fk_dentista_folgas_dentista FOREIGN KEY (dentista_id) REFERENCES dentistas (id)
+);
+
+CREATE TABLE IF NOT EXISTS dentista_duracoes_procedimento (
+    dentista_id     bigint       NOT NULL,
+    procedimento    varchar(255) NOT NULL,
+    duracao_minutos integer      NOT NULL,
+    CONSTRAINT dentista_duracoes_procedimento_pkey PRIMARY KEY (dentista_id, procedimento),
+    CONSTRAINT fk_dentista_duracoes_procedimento_dentista FOREIGN KEY (dentista_id) REFERENCES dentistas (id)
+);
@@ -0,0 +1,219 @@
+-- Esquema de todas as entidades mapeadas, equivalente ao que ddl-auto=update criava.
+-- Bancos já criados pelo Hibernate são marcados nesta versão (spring.flyway.baseline-on-migrate)
+-- e recebem apenas as migrações seguintes.
+-- Enums são gravados como texto sem CHECK: um valor novo no enum não exige migração.
+
+-- ========== SEQUÊNCIAS (allocationSize = 50, otimizador pooled-lo) ==========
+
+CREATE SEQUENCE agendamentos_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE anamneses_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE dentistas_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE pacientes_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE plano_tratamento_seq START WITH 1 INCREMENT BY 50;
+
+-- ========== DENTISTAS ==========
+
+CREATE TABLE dentistas (
+    id                   bigint       NOT NULL,
+    nome                 varchar(255),
+    cro                  varchar(255),
+    especialidade        varchar(255),
+    telefone             varchar(255),
+    email                varchar(255),
+    ativo                boolean,
+    duracao_slot_minutos integer,
+    CONSTRAINT dentistas_pkey PRIMARY KEY (id),
+    CONSTRAINT uk_dentistas_cro UNIQUE (cro)
+);
+
+CREATE TABLE dentista_expediente (
+    dentista_id bigint       NOT NULL,
+    dia_semana  varchar(255) NOT NULL,
+    hora_inicio time(6)      NOT NULL,
+    hora_fim    time(6)      NOT NULL,
+    CONSTRAINT fk_dentista_expediente_dentista FOREIGN KEY (dentista_id) REFERENCES dentistas (id)
+);
+
+CREATE TABLE dentista_pausas (
+    dentista_id bigint       NOT NULL,
+    dia_semana  varchar(255) NOT NULL,
+    hora_inicio time(6)      NOT NULL,
+    hora_fim    time(6)      NOT NULL,
+    CONSTRAINT fk_dentista_pausas_dentista FOREIGN KEY (dentista_id) REFERENCES dentistas (id)
+);
+
+CREATE TABLE dentista_folgas (
+    dentista_id bigint NOT NULL,
+    data        date   NOT NULL,
+    CONSTRAINT dentista_folgas_pkey PRIMARY KEY (dentista_id, data),
+    CONSTRAINT fk_dentista_folgas_dentista FOREIGN KEY (dentista_id) REFERENCES dentistas (id)
+);
+
+CREATE TABLE dentista_duracoes_procedimento (
+    dentista_id     bigint       NOT NULL,
+    procedimento    varchar(255) NOT NULL,
+    duracao_minutos integer      NOT NULL,
+    CONSTRAINT dentista_duracoes_procedimento_pkey PRIMARY KEY (dentista_id, procedimento),
+    CONSTRAINT fk_dentista_duracoes_procedimento_dentista FOREIGN KEY (dentista_id) REFERENCES dentistas (id)
+);
+
+-- ========== PACIENTES E ANAMNESES ==========
+
+CREATE TABLE pacientes (
+    id                            bigint        NOT NULL,
+    nome                          varchar(100)  NOT NULL,
+    cpf                           varchar(14),
+    rg                            varchar(20),
+    orgao_expedidor               varchar(50),
+    email                         varchar(100),
+    telefone                      varchar(20),
+    data_nascimento               date          NOT NULL,
+    sexo                          varchar(20),
+    estado_civil                  varchar(20),
+    endereco_logradouro           varchar(200),
+    endereco_numero               varchar(10),
+    endereco_complemento          varchar(100),
+    endereco_bairro               varchar(100),
+    endereco_cidade               varchar(100),
+    endereco_estado               varchar(2),
+    endereco_cep                  varchar(9),
+    profissao                     varchar(100),
+    naturalidade                  varchar(50),
+    nacionalidade                 varchar(50),
+    convenio                      varchar(100),
+    numero_carteirinha            varchar(50),
+    contato_emergencia_nome       varchar(100),
+    contato_emergencia_telefone   varchar(20),
+    contato_emergencia_parentesco varchar(50),
+    responsavel_nome              varchar(100),
+    responsavel_rg                varchar(20),
+    responsavel_orgao_expedidor   varchar(50),
+    responsavel_cpf               varchar(14),
+    responsavel_estado_civil      varchar(20),
+    responsavel_nome_conjuge      varchar(100),
+    responsavel_cpf_conjuge       varchar(14),
+    anamnese_id                   bigint,
+    prontuario                    varchar(20),
+    indicado_por                  varchar(100),
+    observacoes_gerais            varchar(1000),
+    data_cadastro                 timestamp(6),
+    data_atualizacao              timestamp(6),
+    status                        varchar(20),
+    nome_normalizado              varchar(100),
+    termos_busca                  varchar(200),
+    CONSTRAINT pacientes_pkey PRIMARY KEY (id),
+    CONSTRAINT uk_pacientes_cpf UNIQUE (cpf),
+    CONSTRAINT uk_pacientes_email UNIQUE (email),
+    CONSTRAINT uk_pacientes_anamnese UNIQUE (anamnese_id)
+);
+
+CREATE TABLE anamneses (
+    id                      bigint        NOT NULL,
+    paciente_id             bigint,
+    fumante                 boolean       NOT NULL,
+    cigarros_por_dia        integer,
+    anos_fumando            integer,
+    consome_alcool          boolean       NOT NULL,
+    frequencia_alcool       varchar(255),
+    historico_cirurgico     boolean       NOT NULL,
+    detalhes_cirurgias      varchar(255),
+    problemas_cardiacos     boolean       NOT NULL,
+    problemas_renais        boolean       NOT NULL,
+    problemas_hepaticos     boolean       NOT NULL,
+    problemas_respiratorios boolean       NOT NULL,
+    diabetes                boolean       NOT NULL,
+    hipertensao             boolean       NOT NULL,
+    problemas_coagulacao    boolean       NOT NULL,
+    queixa_principal        varchar(500),
+    evolucao_doenca_atual   varchar(1000),
+    -- Anamnese.ExameClinico: todas as colunas aceitam nulo porque o exame pode não ter sido feito
+    lingua                  varchar(255),
+    mucosa                  varchar(255),
+    palato                  varchar(255),
+    labios                  varchar(255),
+    gengivas                varchar(255),
+    face                    varchar(255),
+    ganglios                varchar(255),
+    glandulas_salivares     varchar(255),
+    alteracao_oclusao       boolean,
+    detalhes_oclusao        varchar(255),
+    observacoes             varchar(255),
+    data_preenchimento      timestamp(6),
+    data_atualizacao        timestamp(6),
+    CONSTRAINT anamneses_pkey PRIMARY KEY (id),
+    CONSTRAINT uk_anamneses_paciente UNIQUE (paciente_id)
+);
+
+-- Referência circular entre pacientes e anamneses: as chaves estrangeiras vêm depois das duas tabelas
+ALTER TABLE pacientes
+    ADD CONSTRAINT fk_pacientes_anamnese FOREIGN KEY (anamnese_id) REFERENCES anamneses (id);
+
+ALTER TABLE anamneses
+    ADD CONSTRAINT fk_anamneses_paciente FOREIGN KEY (paciente_id) REFERENCES pacientes (id);
+
+CREATE TABLE paciente_doencas_preexistentes (
+    anamnese_id bigint NOT NULL,
+    doenca      varchar(255),
+    CONSTRAINT fk_paciente_doencas_preexistentes_anamnese FOREIGN KEY (anamnese_id) REFERENCES anamneses (id)
+);
+
+CREATE TABLE paciente_alergias (
+    anamnese_id bigint NOT NULL,
+    alergia     varchar(255),
+    CONSTRAINT fk_paciente_alergias_anamnese FOREIGN KEY (anamnese_id) REFERENCES anamneses (id)
+);
+
+CREATE TABLE paciente_medicamentos (
+    anamnese_id bigint NOT NULL,
+    medicamento varchar(255),
+    CONSTRAINT fk_paciente_medicamentos_anamnese FOREIGN KEY (anamnese_id) REFERENCES anamneses (id)
+);
+
+-- ========== PLANOS DE TRATAMENTO ==========
+
+CREATE TABLE plano_tratamento (
+    id                  bigint         NOT NULL,
+    paciente_id         bigint         NOT NULL,
+    dentista_id         bigint,
+    dente               varchar(50)    NOT NULL,
+    procedimento        varchar(200)   NOT NULL,
+    valor               numeric(12, 2) NOT NULL,
+    observacao          varchar(500),
+    valor_total         numeric(12, 2) NOT NULL,
+    status              varchar(50)    NOT NULL,
+    data_criacao        timestamp(6),
+    data_atualizacao    timestamp(6),
+    data_inicio         timestamp(6),
+    data_conclusao      timestamp(6),
+    data_cancelamento   timestamp(6),
+    motivo_cancelamento varchar(1000),
+    CONSTRAINT plano_tratamento_pkey PRIMARY KEY (id),
+    CONSTRAINT fk_plano_tratamento_paciente FOREIGN KEY (paciente_id) REFERENCES pacientes (id)
+);
+
+-- Índice declarado em PlanoTratamento (@Table)
+CREATE INDEX idx_plano_tratamento_paciente_status ON plano_tratamento (paciente_id, status);
+
+-- ========== AGENDAMENTOS ==========
+
+-- Paciente e dentista só por ID (com os nomes copiados), sem chave estrangeira, como em Agenda
+CREATE TABLE agendamentos (
+    id            bigint       NOT NULL,
+    paciente_id   bigint,
+    paciente_nome varchar(255) NOT NULL,
+    dentista_id   bigint       NOT NULL,
+    dentista_nome varchar(255) NOT NULL,
+    data_hora     timestamp(6) NOT NULL,
+    data_hora_fim timestamp(6),
+    status        varchar(255) NOT NULL,
+    observacoes   text,
+    telefone      varchar(255),
+    email         varchar(255),
+    data_cadastro timestamp(6) NOT NULL,
+    CONSTRAINT agendamentos_pkey PRIMARY KEY (id)
+);
+
+-- Índices declarados em Agenda (@Table)
+CREATE INDEX idx_agendamentos_dentista_data_hora ON agendamentos (dentista_id, data_hora);
+CREATE INDEX idx_agendamentos_paciente_data_hora ON agendamentos (paciente_id, data_hora);
+CREATE INDEX idx_agendamentos_status_data_hora ON agendamentos (status, data_hora);
@@ -0,0 +1,96 @@
+-- Antigo schema.sql, executado a cada inicialização depois do ddl-auto=update. Continua idempotente:
+-- em bancos marcados na versão 1 ajusta o que o Hibernate criou, em bancos novos completa a V1.
+
+-- Um único agendamento não cancelado por dentista e horário
+CREATE UNIQUE INDEX IF NOT EXISTS uk_agendamentos_dentista_data_hora_ativo
+    ON agendamentos (dentista_id, data_hora)
+    WHERE status <> 'CANCELADO';
+
+-- IDs por sequência (allocationSize = 50, otimizador pooled-lo) em todas as entidades, para que o
+-- Hibernate agrupe os inserts em batch. As colunas deixam de ser IDENTITY (um insert sem id falha em
+-- vez de colidir com um bloco já reservado) e cada sequência fica sempre acima dos IDs já gravados.
+CREATE SEQUENCE IF NOT EXISTS agendamentos_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS plano_tratamento_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS pacientes_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS anamneses_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS dentistas_seq START WITH 1 INCREMENT BY 50;
+
+ALTER TABLE agendamentos ALTER COLUMN id DROP IDENTITY IF EXISTS;
+ALTER TABLE plano_tratamento ALTER COLUMN id DROP IDENTITY IF EXISTS;
+ALTER TABLE pacientes ALTER COLUMN id DROP IDENTITY IF EXISTS;
+ALTER TABLE anamneses ALTER COLUMN id DROP IDENTITY IF EXISTS;
+ALTER TABLE dentistas ALTER COLUMN id DROP IDENTITY IF EXISTS;
+
+SELECT setval('agendamentos_seq',
+              GREATEST((SELECT last_value FROM agendamentos_seq),
+                       (SELECT COALESCE(MAX(id), 0) FROM agendamentos) + 50));
+
+SELECT setval('plano_tratamento_seq',
+              GREATEST((SELECT last_value FROM plano_tratamento_seq),
+                       (SELECT COALESCE(MAX(id), 0) FROM plano_tratamento) + 50));
+
+SELECT setval('pacientes_seq',
+              GREATEST((SELECT last_value FROM pacientes_seq),
+                       (SELECT COALESCE(MAX(id), 0) FROM pacientes) + 50));
+
+SELECT setval('anamneses_seq',
+              GREATEST((SELECT last_value FROM anamneses_seq),
+                       (SELECT COALESCE(MAX(id), 0) FROM anamneses) + 50));
+
+SELECT setval('dentistas_seq',
+              GREATEST((SELECT last_value FROM dentistas_seq),
+                       (SELECT COALESCE(MAX(id), 0) FROM dentistas) + 50));
+
+-- Agendamentos anteriores a data_hora_fim recebem a duração do slot do dentista (padrão de 30 minutos)
+UPDATE agendamentos a
+SET data_hora_fim = a.data_hora + make_interval(mins => COALESCE(
+        (SELECT d.duracao_slot_minutos FROM dentistas d WHERE d.id = a.dentista_id), 30))
+WHERE a.data_hora_fim IS NULL;
+
+-- Agendamentos não cancelados do mesmo dentista não podem se sobrepor.
+-- O corpo do DO usa aspas simples porque o separador de scripts do Spring não reconhece $$
+-- (InicializacaoEsquemaBenchmarkTest ainda executa este arquivo como o antigo schema.sql).
+CREATE EXTENSION IF NOT EXISTS btree_gist;
+
+DO '
+BEGIN
+    IF NOT EXISTS (SELECT 1 FROM pg_constraint WHERE conname = ''ex_agendamentos_dentista_periodo_ativo'') THEN
+        ALTER TABLE agendamentos ADD CONSTRAINT ex_agendamentos_dentista_periodo_ativo
+            EXCLUDE USING gist (dentista_id WITH =, tsrange(data_hora, data_hora_fim) WITH &&)
+            WHERE (status <> ''CANCELADO'');
+    END IF;
+EXCEPTION
+    WHEN exclusion_violation THEN
+        RAISE WARNING ''Agendamentos sobrepostos existentes: restrição ex_agendamentos_dentista_periodo_ativo não criada'';
+END';
+
+-- Busca de pacientes sem acentos (colunas mantidas por Paciente.atualizarTermosBusca):
+-- trigramas atendem LIKE '%termo%' e text_pattern_ops atende prefixos de 1 e 2 caracteres
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+CREATE INDEX IF NOT EXISTS idx_pacientes_termos_busca_trgm
+    ON pacientes USING gin (termos_busca gin_trgm_ops);
+
+CREATE INDEX IF NOT EXISTS idx_pacientes_nome_normalizado_trgm
+    ON pacientes USING gin (nome_normalizado gin_trgm_ops);
+
+CREATE INDEX IF NOT EXISTS idx_pacientes_nome_normalizado_prefixo
+    ON pacientes (nome_normalizado text_pattern_ops);
+
+-- plano_tratamento.valor e valor_total passaram de double precision para NUMERIC(12,2) (Dinheiro):
+-- as linhas existentes são arredondadas para centavos uma única vez
+DO '
+BEGIN
+    IF EXISTS (SELECT 1 FROM information_schema.columns
+               WHERE table_name = ''plano_tratamento'' AND column_name = ''valor''
+                 AND data_type = ''double precision'') THEN
+        ALTER TABLE plano_tratamento
+            ALTER COLUMN valor TYPE numeric(12, 2) USING round(valor::numeric, 2),
+            ALTER COLUMN valor_total TYPE numeric(12, 2) USING round(valor_total::numeric, 2);
+    END IF;
+END';
+
+-- Relatório de orçamentos abertos por dentista e mês (PlanoTratamentoRepository):
+-- dentista_id e valor_total no próprio índice permitem varrê-lo sem ler a tabela
+CREATE INDEX IF NOT EXISTS idx_plano_tratamento_status_data_criacao
+    ON plano_tratamento (status, data_criacao) INCLUDE (dentista_id, valor_total);
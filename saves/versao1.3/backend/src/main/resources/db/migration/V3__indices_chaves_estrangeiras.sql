@@ -0,0 +1,17 @@
+-- O PostgreSQL não indexa chaves estrangeiras. As coleções da anamnese são carregadas por subselect
+-- em anamnese_id e as do dentista por dentista_id; sem estes índices cada carga varre a tabela inteira.
+-- plano_tratamento.paciente_id já é a primeira coluna de idx_plano_tratamento_paciente_status.
+CREATE INDEX IF NOT EXISTS idx_paciente_doencas_preexistentes_anamnese
+    ON paciente_doencas_preexistentes (anamnese_id);
+
+CREATE INDEX IF NOT EXISTS idx_paciente_alergias_anamnese
+    ON paciente_alergias (anamnese_id);
+
+CREATE INDEX IF NOT EXISTS idx_paciente_medicamentos_anamnese
+    ON paciente_medicamentos (anamnese_id);
+
+CREATE INDEX IF NOT EXISTS idx_dentista_expediente_dentista
+    ON dentista_expediente (dentista_id);
+
+CREATE INDEX IF NOT EXISTS idx_dentista_pausas_dentista
+    ON dentista_pausas (dentista_id);
@@ -0,0 +1,33 @@
+-- A V2 só avisava quando agendamentos sobrepostos impediam a restrição de exclusão, e o banco seguia
+-- sem ela. A restrição passa a valer só para agendamentos vivos (AGENDADO, CONFIRMADO): o fim dos
+-- agendamentos legados foi estimado pela duração do slot na V2, então encaixes já atendidos ou
+-- cancelados ficam como estão. Nenhum status é alterado aqui.
+
+-- Sobreposição entre agendamentos vivos precisa ser resolvida por uma pessoa: a migração falha
+-- listando os pares, e a aplicação não inicia até que um deles seja remarcado ou cancelado.
+-- O corpo do DO usa aspas simples como na V2.
+DO '
+DECLARE
+    conflitos text;
+BEGIN
+    SELECT string_agg(format(''dentista %s: %s x %s'', a.dentista_id, a.id, b.id), ''; '' ORDER BY a.id, b.id)
+    INTO conflitos
+    FROM agendamentos a
+    JOIN agendamentos b
+      ON b.dentista_id = a.dentista_id
+     AND b.id > a.id
+     AND tsrange(b.data_hora, b.data_hora_fim) && tsrange(a.data_hora, a.data_hora_fim)
+    WHERE a.status IN (''AGENDADO'', ''CONFIRMADO'')
+      AND b.status IN (''AGENDADO'', ''CONFIRMADO'');
+
+    IF conflitos IS NOT NULL THEN
+        RAISE EXCEPTION ''Agendamentos vivos sobrepostos impedem ex_agendamentos_dentista_periodo_ativo: %'', conflitos
+            USING HINT = ''Remarque ou cancele um agendamento de cada par e reinicie a aplicação'';
+    END IF;
+END';
+
+ALTER TABLE agendamentos DROP CONSTRAINT IF EXISTS ex_agendamentos_dentista_periodo_ativo;
+
+ALTER TABLE agendamentos ADD CONSTRAINT ex_agendamentos_dentista_periodo_ativo
+    EXCLUDE USING gist (dentista_id WITH =, tsrange(data_hora, data_hora_fim) WITH &&)
+    WHERE (status IN ('AGENDADO', 'CONFIRMADO'));
@@ -1,9 +1,8 @@
 package com.consultorio;
 
 import org.junit.jupiter.api.Test;
-import org.springframework.boot.test.context.SpringBootTest;
 
-@SpringBootTest
+@TesteIntegracao
 class ConsultorioApplicationTests {
 
 	@Test
@@ -0,0 +1,110 @@
+package com.consultorio;
+
+import com.consultorio.domain.agenda.AgendaRepository;
+import com.consultorio.domain.dentista.Dentista;
+import com.consultorio.domain.dentista.DentistaRepository;
+import com.consultorio.domain.paciente.Enums.StatusPaciente;
+import com.consultorio.domain.paciente.entity.Paciente;
+import com.consultorio.domain.paciente.entity.PlanoTratamento;
+import com.consultorio.domain.paciente.repository.PacienteRepository;
+import com.consultorio.domain.paciente.repository.PlanoTratamentoRepository;
+import org.springframework.test.context.TestContext;
+import org.springframework.test.context.TestExecutionListener;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+// Pacientes, planos e dentistas dos testes de integração (ver TesteIntegracao). Tudo o que for criado
+// aqui é removido depois de cada teste, na ordem das chaves estrangeiras: agendamentos dos dentistas,
+// planos dos pacientes, pacientes (com a anamnese) e dentistas
+public class FixturesTeste {
+
+    private static final LocalDate DATA_NASCIMENTO = LocalDate.of(1985, 6, 1);
+
+    private final PacienteRepository pacienteRepository;
+    private final PlanoTratamentoRepository planoTratamentoRepository;
+    private final DentistaRepository dentistaRepository;
+    private final AgendaRepository agendaRepository;
+
+    private final List<Long> pacientes = new CopyOnWriteArrayList<>();
+    private final List<Long> dentistas = new CopyOnWriteArrayList<>();
+
+    public FixturesTeste(PacienteRepository pacienteRepository,
+                         PlanoTratamentoRepository planoTratamentoRepository,
+                         DentistaRepository dentistaRepository,
+                         AgendaRepository agendaRepository) {
+        this.pacienteRepository = pacienteRepository;
+        this.planoTratamentoRepository = planoTratamentoRepository;
+        this.dentistaRepository = dentistaRepository;
+        this.agendaRepository = agendaRepository;
+    }
+
+    // ========== PACIENTES ==========
+
+    public Paciente paciente(String nome) {
+        return salvar(Paciente.builder().nome(nome).build());
+    }
+
+    // Data de nascimento e status preenchidos quando o teste não define
+    public Paciente salvar(Paciente paciente) {
+        if (paciente.getDataNascimento() == null) {
+            paciente.setDataNascimento(DATA_NASCIMENTO);
+        }
+        if (paciente.getStatus() == null) {
+            paciente.setStatus(StatusPaciente.ATIVO);
+        }
+
+        Paciente salvo = pacienteRepository.save(paciente);
+        pacientes.add(salvo.getId());
+        return salvo;
+    }
+
+    // Removido junto com o paciente
+    public PlanoTratamento salvar(PlanoTratamento plano) {
+        return planoTratamentoRepository.save(plano);
+    }
+
+    // ========== DENTISTAS ==========
+
+    public Dentista dentista(String nome) {
+        return salvar(Dentista.builder().nome(nome).build());
+    }
+
+    // CRO único quando o teste não define; os agendamentos do dentista são removidos com ele
+    public Dentista salvar(Dentista dentista) {
+        if (dentista.getCro() == null) {
+            dentista.setCro("CRO-" + UUID.randomUUID());
+        }
+
+        Dentista salvo = dentistaRepository.save(dentista);
+        dentistas.add(salvo.getId());
+        return salvo;
+    }
+
+    // ========== LIMPEZA ==========
+
+    public void limpar() {
+        for (Long dentistaId : dentistas) {
+            agendaRepository.deleteAll(agendaRepository.findByDentistaIdOrderByDataHoraDesc(dentistaId));
+        }
+        for (Long pacienteId : pacientes) {
+            planoTratamentoRepository.deleteAll(planoTratamentoRepository.findByPacienteId(pacienteId));
+        }
+        pacienteRepository.deleteAllById(pacientes);
+        dentistaRepository.deleteAllById(dentistas);
+
+        pacientes.clear();
+        dentistas.clear();
+    }
+
+    // Depois dos @AfterEach do teste, mesmo quando ele falha
+    public static class Limpeza implements TestExecutionListener {
+
+        @Override
+        public void afterTestMethod(TestContext testContext) {
+            testContext.getApplicationContext().getBean(FixturesTeste.class).limpar();
+        }
+    }
+}
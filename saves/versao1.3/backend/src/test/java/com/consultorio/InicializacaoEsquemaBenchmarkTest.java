@@ -0,0 +1,143 @@
+package com.consultorio;
+
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.context.event.ApplicationStartedEvent;
+import org.springframework.context.ApplicationEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// Tempo de inicialização do contexto com o esquema por migrações (Flyway + ddl-auto=validate) contra o
+// modo anterior (ddl-auto=update + antigo schema.sql a cada boot), com milhões de linhas no banco.
+// Mede até o ApplicationStartedEvent: a carga do autocomplete (ApplicationReadyEvent) fica de fora.
+// Roda no PostgreSQL descartável do perfil de testes: no modo update o Hibernate recria restrições
+// únicas e chaves estrangeiras com os próprios nomes ao lado das criadas pelas migrações.
+// Executar com: mvn test -Dtest=InicializacaoEsquemaBenchmarkTest -Dbenchmark=true
+@Slf4j
+@Tag("benchmark")
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class InicializacaoEsquemaBenchmarkTest {
+
+    private static final int TOTAL_PACIENTES = 1_000_000;
+    private static final int PLANOS_POR_PACIENTE = 2;
+    private static final int TOTAL_AGENDAMENTOS = 1_000_000;
+    private static final int RODADAS = 5;
+    private static final String PREFIXO = "STARTUP-";
+    private static final long DENTISTA_BENCHMARK = -1L;
+
+    private static final String[] COMUNS = {
+            "--spring.profiles.active=" + TesteIntegracao.PERFIL,
+            "--spring.jpa.show-sql=false",
+            "--logging.level.com.consultorio=INFO"
+    };
+
+    private static final String[] MIGRACOES = {
+            "--spring.jpa.hibernate.ddl-auto=validate"
+    };
+
+    private static final String[] ATUALIZACAO = {
+            "--spring.jpa.hibernate.ddl-auto=update",
+            "--spring.flyway.enabled=false",
+            "--spring.jpa.defer-datasource-initialization=true",
+            "--spring.sql.init.mode=always",
+            "--spring.sql.init.schema-locations=classpath:db/migration/V2__indices_e_restricoes.sql"
+    };
+
+    @BeforeAll
+    static void popular() {
+        comJdbc(jdbc -> {
+            jdbc.update("INSERT INTO pacientes (id, nome, data_nascimento, status, nome_normalizado, termos_busca, " +
+                    "data_cadastro, data_atualizacao) " +
+                    "SELECT nextval('pacientes_seq'), ? || g, DATE '1980-01-01' + (g % 10000), 'ATIVO', " +
+                    "lower(?) || g, lower(?) || g, now(), now() FROM generate_series(1, ?) g",
+                    PREFIXO, PREFIXO, PREFIXO, TOTAL_PACIENTES);
+
+            jdbc.update("INSERT INTO plano_tratamento (id, paciente_id, dente, procedimento, valor, valor_total, " +
+                    "status, data_criacao, data_atualizacao) " +
+                    "SELECT nextval('plano_tratamento_seq'), p.id, 'DENTE_11', 'Restauração', 150.00, 150.00, " +
+                    "'ORCAMENTO', now(), now() FROM pacientes p CROSS JOIN generate_series(1, ?) g " +
+                    "WHERE p.nome LIKE ?", PLANOS_POR_PACIENTE, PREFIXO + "%");
+
+            jdbc.update("INSERT INTO agendamentos (id, paciente_nome, dentista_id, dentista_nome, data_hora, " +
+                    "data_hora_fim, status, data_cadastro) " +
+                    "SELECT nextval('agendamentos_seq'), ? || g, ?, 'Dentista Benchmark', " +
+                    "TIMESTAMP '2000-01-01 08:00' + g * INTERVAL '30 minutes', " +
+                    "TIMESTAMP '2000-01-01 08:30' + g * INTERVAL '30 minutes', 'CONCLUIDO', now() " +
+                    "FROM generate_series(1, ?) g",
+                    PREFIXO, DENTISTA_BENCHMARK, TOTAL_AGENDAMENTOS);
+
+            jdbc.execute("ANALYZE pacientes, plano_tratamento, agendamentos");
+        });
+    }
+
+    @AfterAll
+    static void remover() {
+        comJdbc(jdbc -> {
+            jdbc.update("DELETE FROM agendamentos WHERE dentista_id = ?", DENTISTA_BENCHMARK);
+            jdbc.update("DELETE FROM plano_tratamento WHERE paciente_id IN " +
+                    "(SELECT id FROM pacientes WHERE nome LIKE ?)", PREFIXO + "%");
+            jdbc.update("DELETE FROM pacientes WHERE nome LIKE ?", PREFIXO + "%");
+        });
+    }
+
+    @Test
+    void migracoesIniciamMaisRapidoQueDdlUpdate() {
+        long melhorMigracoes = Long.MAX_VALUE;
+        long melhorAtualizacao = Long.MAX_VALUE;
+
+        // Rodadas alternadas para que cache do banco e JIT favoreçam os dois modos igualmente
+        for (int rodada = 0; rodada < RODADAS; rodada++) {
+            melhorAtualizacao = Math.min(melhorAtualizacao, medirInicializacao(ATUALIZACAO));
+            melhorMigracoes = Math.min(melhorMigracoes, medirInicializacao(MIGRACOES));
+        }
+
+        log.info("ddl-auto=update + schema.sql - melhor inicialização: {} ms", melhorAtualizacao / 1_000_000);
+        log.info("Flyway + ddl-auto=validate   - melhor inicialização: {} ms", melhorMigracoes / 1_000_000);
+
+        assertTrue(melhorMigracoes < melhorAtualizacao);
+    }
+
+    private static long medirInicializacao(String... modo) {
+        long[] iniciado = new long[1];
+        ApplicationListener<ApplicationEvent> marcarInicio = evento -> {
+            if (evento instanceof ApplicationStartedEvent) {
+                iniciado[0] = System.nanoTime();
+            }
+        };
+
+        long inicio = System.nanoTime();
+        try (ConfigurableApplicationContext contexto = iniciar(marcarInicio, modo)) {
+            return iniciado[0] - inicio;
+        }
+    }
+
+    // Contexto no modo de migrações: aplica as versões pendentes antes de popular ou limpar o banco
+    private static void comJdbc(Consumer<JdbcTemplate> acao) {
+        try (ConfigurableApplicationContext contexto = iniciar(evento -> { }, MIGRACOES)) {
+            acao.accept(contexto.getBean(JdbcTemplate.class));
+        }
+    }
+
+    private static ConfigurableApplicationContext iniciar(ApplicationListener<ApplicationEvent> listener,
+                                                          String... modo) {
+        String[] argumentos = new String[COMUNS.length + modo.length];
+        System.arraycopy(COMUNS, 0, argumentos, 0, COMUNS.length);
+        System.arraycopy(modo, 0, argumentos, COMUNS.length, modo.length);
+
+        return new SpringApplicationBuilder(ConsultorioApplication.class)
+                .web(WebApplicationType.NONE)
+                .listeners(listener)
+                .run(argumentos);
+    }
+}
@@ -0,0 +1,106 @@
+package com.consultorio;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+import org.springframework.jdbc.datasource.init.ScriptUtils;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.Statement;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// Atualização de um banco criado pelo antigo ddl-auto=update (db/legado/esquema_ddl_auto_update.sql):
+// marcado na versão 1, completado pela V1.1 e migrado pelas seguintes até o ddl-auto=validate aceitar.
+// Cada teste usa um PostgreSQL próprio, separado do banco dos demais testes de integração
+class MigracaoBancoLegadoTest {
+
+    private static final String URL = "jdbc:tc:postgresql:16-alpine:///legado?TC_DAEMON=true";
+    private static final String URL_CONFLITO = "jdbc:tc:postgresql:16-alpine:///legado_conflito?TC_DAEMON=true";
+
+    @Test
+    void migraBancoCriadoPeloDdlAutoUpdate() throws Exception {
+        prepararBancoLegado(URL);
+
+        try (ConfigurableApplicationContext contexto = iniciar(URL)) {
+            JdbcTemplate jdbc = contexto.getBean(JdbcTemplate.class);
+
+            assertEquals(List.of("1", "1.1", "2", "3", "4"), jdbc.queryForList(
+                    "SELECT version FROM flyway_schema_history WHERE success ORDER BY installed_rank", String.class));
+
+            // Duração padrão de 30 minutos: o dentista legado não tinha duracao_slot_minutos
+            assertEquals(List.of("2024-02-05 09:30:00", "2024-02-05 09:45:00", "2024-02-05 10:00:00"),
+                    jdbc.queryForList("SELECT to_char(data_hora_fim, 'YYYY-MM-DD HH24:MI:SS') " +
+                            "FROM agendamentos ORDER BY data_hora", String.class));
+
+            // O encaixe já atendido continua sobreposto e com o status original: a restrição só vale
+            // para agendamentos vivos
+            assertEquals(List.of("CONCLUIDO", "CONCLUIDO", "AGENDADO"), jdbc.queryForList(
+                    "SELECT status FROM agendamentos ORDER BY data_hora", String.class));
+            assertEquals(1, jdbc.queryForObject("SELECT COUNT(*) FROM pg_constraint " +
+                    "WHERE conname = 'ex_agendamentos_dentista_periodo_ativo'", Integer.class));
+
+            assertEquals(new BigDecimal("150.56"),
+                    jdbc.queryForObject("SELECT valor_total FROM plano_tratamento", BigDecimal.class));
+
+            // Reindexação da busca na inicialização
+            assertEquals("jose antonio legado",
+                    jdbc.queryForObject("SELECT nome_normalizado FROM pacientes", String.class));
+
+            // Sequências acima dos IDs gravados com IDENTITY
+            assertEquals(Boolean.TRUE, jdbc.queryForObject(
+                    "SELECT last_value > (SELECT MAX(id) FROM agendamentos) FROM agendamentos_seq", Boolean.class));
+        }
+    }
+
+    // Dois agendamentos vivos sobrepostos: a V4 não escolhe qual manter, falha listando o par
+    @Test
+    void falhaComAgendamentosVivosSobrepostos() throws Exception {
+        prepararBancoLegado(URL_CONFLITO);
+        try (Connection conexao = DriverManager.getConnection(URL_CONFLITO, "test", "test");
+             Statement statement = conexao.createStatement()) {
+            statement.execute("INSERT INTO agendamentos (paciente_nome, dentista_id, dentista_nome, data_hora, " +
+                    "status, data_cadastro) VALUES ('Encaixe Vivo', 1, 'Dentista Legado', " +
+                    "TIMESTAMP '2024-02-05 09:45:00', 'CONFIRMADO', TIMESTAMP '2024-01-12 10:00:00')");
+        }
+
+        Exception falha = assertThrows(Exception.class, () -> iniciar(URL_CONFLITO).close());
+
+        assertTrue(mensagens(falha).contains("dentista 1: 2 x 4"), mensagens(falha));
+        try (Connection conexao = DriverManager.getConnection(URL_CONFLITO, "test", "test")) {
+            JdbcTemplate jdbc = new JdbcTemplate(new SingleConnectionDataSource(conexao, true));
+            assertEquals(List.of("AGENDADO", "CONFIRMADO"), jdbc.queryForList(
+                    "SELECT status FROM agendamentos WHERE id IN (2, 4) ORDER BY id", String.class));
+        }
+    }
+
+    private static void prepararBancoLegado(String url) throws Exception {
+        try (Connection conexao = DriverManager.getConnection(url, "test", "test")) {
+            ScriptUtils.executeSqlScript(conexao, new ClassPathResource("db/legado/esquema_ddl_auto_update.sql"));
+        }
+    }
+
+    private static ConfigurableApplicationContext iniciar(String url) {
+        return new SpringApplicationBuilder(ConsultorioApplication.class)
+                .web(WebApplicationType.NONE)
+                .run("--spring.profiles.active=" + TesteIntegracao.PERFIL,
+                        "--spring.datasource.url=" + url);
+    }
+
+    private static String mensagens(Throwable erro) {
+        StringBuilder texto = new StringBuilder();
+        for (Throwable causa = erro; causa != null; causa = causa.getCause()) {
+            texto.append(causa.getMessage()).append('\n');
+        }
+        return texto.toString();
+    }
+}
@@ -0,0 +1,26 @@
+package com.consultorio;
+
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestExecutionListeners;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+// Contexto completo contra um PostgreSQL descartável (perfil "test", application-test.properties):
+// nenhum teste grava no banco de desenvolvimento. Os dados criados por FixturesTeste são removidos
+// depois de cada teste
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+@SpringBootTest
+@ActiveProfiles(TesteIntegracao.PERFIL)
+@Import(FixturesTeste.class)
+@TestExecutionListeners(listeners = FixturesTeste.Limpeza.class,
+        mergeMode = TestExecutionListeners.MergeMode.MERGE_WITH_DEFAULTS)
+public @interface TesteIntegracao {
+
+    String PERFIL = "test";
+}
@@ -0,0 +1,130 @@
+package com.consultorio.config;
+
+import com.consultorio.FixturesTeste;
+import com.consultorio.TesteIntegracao;
+import com.consultorio.domain.dentista.Dentista;
+import com.consultorio.domain.dentista.PeriodoJornada;
+import com.consultorio.domain.paciente.DTOs.PlanoTratamentoCreateDTO;
+import com.consultorio.domain.paciente.Enums.Dente;
+import com.consultorio.domain.paciente.entity.Anamnese;
+import com.consultorio.domain.paciente.entity.Paciente;
+import com.consultorio.domain.paciente.entity.PlanoTratamento;
+import com.consultorio.domain.paciente.service.PlanoTratamentoService;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.math.BigDecimal;
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// Rotas de leitura com open-in-view desligado: toda relação lazy usada na resposta precisa ser
+// carregada dentro do service (grafos de entidade ou projeções), antes da conexão voltar ao pool
+@TesteIntegracao
+@AutoConfigureMockMvc
+@Import(VerificacaoCargaTardia.class)
+class CargaTardiaRotasTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private PlanoTratamentoService planoTratamentoService;
+
+    @Autowired
+    private FixturesTeste fixtures;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private VerificacaoCargaTardia.CargasForaDeTransacao cargas;
+
+    private Paciente paciente;
+    private Dentista dentista;
+    private Long planoId;
+
+    @BeforeEach
+    void setUp() {
+        paciente = fixtures.salvar(Paciente.builder()
+                .nome("Paciente Carga Tardia")
+                .anamnese(Anamnese.builder()
+                        .alergias(new ArrayList<>(List.of("Látex")))
+                        .build())
+                .build());
+
+        planoId = planoTratamentoService.criar(paciente.getId(), PlanoTratamentoCreateDTO.builder()
+                .pacienteId(paciente.getId())
+                .dente(Dente.DENTE_11)
+                .procedimento("Restauração")
+                .valor(new BigDecimal("250.00"))
+                .valorTotal(new BigDecimal("250.00"))
+                .build()).id();
+
+        dentista = fixtures.salvar(Dentista.builder()
+                .nome("Dentista Carga Tardia")
+                .ativo(true)
+                .jornada(new ArrayList<>(List.of(
+                        new PeriodoJornada(DayOfWeek.MONDAY, LocalTime.of(8, 0), LocalTime.of(12, 0)))))
+                .build());
+
+        cargas.limpar();
+    }
+
+    @Test
+    void rotasDeLeituraNaoCarregamRelacoesForaDoService() throws Exception {
+        String pacienteRota = "/pacientes/" + paciente.getId();
+        String planosRota = pacienteRota + "/plano-tratamento";
+        String dentistaRota = "/dentistas/" + dentista.getId();
+
+        List<String> rotas = List.of(
+                pacienteRota,
+                pacienteRota + "/anamnese",
+                "/pacientes/anamneses?ids=" + paciente.getId(),
+                pacienteRota + "/odontograma",
+                pacienteRota + "/historico",
+                "/pacientes/ativos",
+                planosRota,
+                planosRota + "/" + planoId,
+                planosRota + "/resumo",
+                planosRota + "/estatisticas",
+                planosRota + "/valor-total",
+                "/dentistas",
+                "/dentistas/ativos",
+                dentistaRota,
+                dentistaRota + "/jornada",
+                "/agendamentos/paciente/" + paciente.getId());
+
+        for (String rota : rotas) {
+            mockMvc.perform(get(rota)).andExpect(status().isOk());
+        }
+
+        assertEquals(List.of(), cargas.registradas());
+    }
+
+    // Sessão aberta sem transação, como no open-in-view: a verificação recusa a carga
+    @Test
+    void recusaCargaLazyComSessaoAbertaSemTransacao() {
+        EntityManager entityManager = entityManagerFactory.createEntityManager();
+        try {
+            PlanoTratamento plano = entityManager.find(PlanoTratamento.class, planoId);
+
+            assertThrows(RuntimeException.class, () -> plano.getPaciente().getNome());
+            assertEquals(1, cargas.registradas().size());
+        } finally {
+            entityManager.close();
+        }
+    }
+}
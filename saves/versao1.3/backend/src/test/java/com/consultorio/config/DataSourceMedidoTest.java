@@ -0,0 +1,83 @@
+package com.consultorio.config;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class DataSourceMedidoTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final AtomicInteger fechamentos = new AtomicInteger();
+
+    private final DataSourceMedido dataSource = new DataSourceMedido(new AbstractDataSource() {
+        @Override
+        public Connection getConnection() {
+            return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(),
+                    new Class<?>[]{Connection.class}, (proxy, metodo, argumentos) -> {
+                        if ("close".equals(metodo.getName())) {
+                            fechamentos.incrementAndGet();
+                        }
+                        return null;
+                    });
+        }
+
+        @Override
+        public Connection getConnection(String usuario, String senha) {
+            return getConnection();
+        }
+    }, registry);
+
+    @AfterEach
+    void limparRequisicao() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    void dimensionaPoolPelaLeiDeLittle() {
+        assertEquals(7, DataSourceConfig.tamanhoPool(200, Duration.ofMillis(25), 2));
+        assertEquals(8, DataSourceConfig.tamanhoPool(210, Duration.ofMillis(25), 2));
+        assertEquals(DataSourceConfig.TAMANHO_MINIMO_POOL, DataSourceConfig.tamanhoPool(1, Duration.ofMillis(1), 0));
+    }
+
+    @Test
+    void registraAquisicaoEUsoPorPadraoDaRota() throws Exception {
+        MockHttpServletRequest requisicao = new MockHttpServletRequest("GET", "/pacientes/42");
+        requisicao.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/pacientes/{id}");
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(requisicao));
+
+        Connection conexao = dataSource.getConnection();
+        conexao.close();
+        conexao.close();
+
+        assertEquals(1, timer(DataSourceMedido.METRICA_AQUISICAO, "GET /pacientes/{id}").count());
+        assertEquals(1, timer(DataSourceMedido.METRICA_USO, "GET /pacientes/{id}").count());
+        assertEquals(2, fechamentos.get());
+    }
+
+    @Test
+    void semRequisicaoUsaTagForaDeRequisicao() throws Exception {
+        try (Connection ignorada = dataSource.getConnection()) {
+            assertNull(registry.find(DataSourceMedido.METRICA_USO).timer());
+        }
+
+        assertEquals(1, timer(DataSourceMedido.METRICA_USO, DataSourceMedido.FORA_DE_REQUISICAO).count());
+    }
+
+    private Timer timer(String nome, String endpoint) {
+        return registry.get(nome).tag("endpoint", endpoint).timer();
+    }
+}
@@ -0,0 +1,91 @@
+package com.consultorio.config;
+
+import org.hibernate.boot.Metadata;
+import org.hibernate.boot.spi.BootstrapContext;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.InitializeCollectionEvent;
+import org.hibernate.event.spi.InitializeCollectionEventListener;
+import org.hibernate.event.spi.LoadEvent;
+import org.hibernate.event.spi.LoadEventListener;
+import org.hibernate.integrator.spi.Integrator;
+import org.hibernate.jpa.boot.spi.IntegratorProvider;
+import org.hibernate.service.spi.SessionFactoryServiceRegistry;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+// Falha em qualquer carga lazy (proxy de entidade ou coleção) sem transação ativa: a conexão ficaria
+// presa além do service. Com open-in-view desligado a sessão já fecha junto com a transação e a carga
+// vira LazyInitializationException; esta verificação também pega sessões abertas sem transação.
+// A carga é registrada além da exceção, porque o handler global transforma a exceção em resposta de erro.
+@TestConfiguration
+public class VerificacaoCargaTardia {
+
+    private static final String INTEGRATOR_PROVIDER = "hibernate.integrator_provider";
+
+    @Bean
+    CargasForaDeTransacao cargasForaDeTransacao() {
+        return new CargasForaDeTransacao();
+    }
+
+    @Bean
+    HibernatePropertiesCustomizer verificarCargaTardia(CargasForaDeTransacao cargas) {
+        return propriedades -> propriedades.put(INTEGRATOR_PROVIDER,
+                (IntegratorProvider) () -> List.of(new Registro(cargas)));
+    }
+
+    public static class CargasForaDeTransacao implements LoadEventListener, InitializeCollectionEventListener {
+
+        private final List<String> registradas = new CopyOnWriteArrayList<>();
+
+        // IMMEDIATE_LOAD é a inicialização de um proxy; find e consultas usam os outros tipos
+        @Override
+        public void onLoad(LoadEvent event, LoadType loadType) {
+            if (loadType == LoadEventListener.IMMEDIATE_LOAD) {
+                verificar(event.getEntityClassName() + "#" + event.getEntityId());
+            }
+        }
+
+        @Override
+        public void onInitializeCollection(InitializeCollectionEvent event) {
+            verificar(event.getCollection().getRole() + "#" + event.getCollection().getKey());
+        }
+
+        public List<String> registradas() {
+            return List.copyOf(registradas);
+        }
+
+        public void limpar() {
+            registradas.clear();
+        }
+
+        private void verificar(String carga) {
+            if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+                registradas.add(carga);
+                throw new IllegalStateException("Carga lazy fora de transação: " + carga);
+            }
+        }
+    }
+
+    // Antes dos listeners padrão: a carga é recusada sem ir ao banco
+    private record Registro(CargasForaDeTransacao cargas) implements Integrator {
+
+        @Override
+        public void integrate(Metadata metadata, BootstrapContext bootstrapContext,
+                              SessionFactoryImplementor sessionFactory) {
+            EventListenerRegistry eventos = sessionFactory.getServiceRegistry().getService(EventListenerRegistry.class);
+            eventos.prependListeners(EventType.LOAD, cargas);
+            eventos.prependListeners(EventType.INIT_COLLECTION, cargas);
+        }
+
+        @Override
+        public void disintegrate(SessionFactoryImplementor sessionFactory, SessionFactoryServiceRegistry serviceRegistry) {
+        }
+    }
+}
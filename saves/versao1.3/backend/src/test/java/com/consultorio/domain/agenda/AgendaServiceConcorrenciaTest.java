@@ -0,0 +1,111 @@
+package com.consultorio.domain.agenda;
+
+import com.consultorio.FixturesTeste;
+import com.consultorio.TesteIntegracao;
+import com.consultorio.domain.agenda.dto.AgendaCreateDTO;
+import com.consultorio.domain.agenda.dto.AgendaResponseDTO;
+import com.consultorio.domain.agenda.exception.ConflitoAgendamentoException;
+import com.consultorio.domain.dentista.Dentista;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+@TesteIntegracao
+class AgendaServiceConcorrenciaTest {
+
+    private static final int THREADS = 32;
+    private static final int SLOTS = 20;
+    private static final int TENTATIVAS_POR_SLOT = 16;
+
+    @Autowired
+    private AgendaService service;
+
+    @Autowired
+    private AgendaRepository repository;
+
+    @Autowired
+    private FixturesTeste fixtures;
+
+    private Dentista dentista;
+
+    @BeforeEach
+    void setUp() {
+        dentista = fixtures.salvar(Dentista.builder()
+                .nome("Dentista Concorrência")
+                .ativo(true)
+                .build());
+    }
+
+    @Test
+    void naoPermiteAgendamentoDuploSobCarga() throws Exception {
+        LocalDateTime primeiroSlot = LocalDateTime.of(LocalDate.now().plusYears(5), LocalTime.of(8, 0));
+
+        List<Callable<Boolean>> tarefas = new ArrayList<>();
+        for (int slot = 0; slot < SLOTS; slot++) {
+            LocalDateTime dataHora = primeiroSlot.plusMinutes(30L * slot);
+            for (int i = 0; i < TENTATIVAS_POR_SLOT; i++) {
+                tarefas.add(() -> agendar(dataHora));
+            }
+        }
+
+        AtomicInteger sucessos = new AtomicInteger();
+        AtomicInteger conflitos = new AtomicInteger();
+        CountDownLatch largada = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+
+        try {
+            List<Future<Boolean>> resultados = new ArrayList<>();
+            for (Callable<Boolean> tarefa : tarefas) {
+                resultados.add(executor.submit(() -> {
+                    largada.await();
+                    return tarefa.call();
+                }));
+            }
+
+            largada.countDown();
+
+            for (Future<Boolean> resultado : resultados) {
+                if (resultado.get(60, TimeUnit.SECONDS)) {
+                    sucessos.incrementAndGet();
+                } else {
+                    conflitos.incrementAndGet();
+                }
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(SLOTS, sucessos.get(), "Deve existir exatamente um agendamento por slot");
+        assertEquals(SLOTS * (TENTATIVAS_POR_SLOT - 1), conflitos.get());
+
+        List<Agenda> salvos = repository.findByDentistaIdOrderByDataHoraDesc(dentista.getId());
+        assertEquals(SLOTS, salvos.size());
+        assertEquals(SLOTS, salvos.stream().map(Agenda::getDataHora).distinct().count(),
+                "Nenhum horário pode ter sido reservado duas vezes");
+    }
+
+    private boolean agendar(LocalDateTime dataHora) {
+        try {
+            AgendaResponseDTO response = service.criar(AgendaCreateDTO.builder()
+                    .pacienteNome("Paciente Concorrência")
+                    .dentistaId(dentista.getId())
+                    .dataHora(dataHora)
+                    .build());
+            assertNotNull(response.id());
+            return true;
+        } catch (ConflitoAgendamentoException e) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.consultorio.domain.paciente.busca;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TriePrefixosTest {
+
+    @Test
+    void buscaPorPrefixoEmOrdemAlfabetica() {
+        TriePrefixos trie = new TriePrefixos();
+        trie.inserir("mario", 3L);
+        trie.inserir("maria", 1L);
+        trie.inserir("mariana", 2L);
+        trie.inserir("joao", 4L);
+
+        assertEquals(List.of(1L, 2L, 3L), trie.buscar("mar", 10));
+        assertEquals(List.of(1L, 2L), trie.buscar("maria", 10));
+        assertEquals(List.of(1L), trie.buscar("mar", 1));
+        assertTrue(trie.buscar("marx", 10).isEmpty());
+    }
+
+    @Test
+    void removerRecompactaSemPerderOutrasChaves() {
+        TriePrefixos trie = new TriePrefixos();
+        trie.inserir("maria", 1L);
+        trie.inserir("mariana", 2L);
+        trie.inserir("marina", 3L);
+
+        trie.remover("maria", 1L);
+        trie.remover("marina", 3L);
+
+        assertEquals(List.of(2L), trie.buscar("mari", 10));
+        assertEquals(List.of(2L), trie.buscar("mariana", 10));
+        assertTrue(trie.buscar("marin", 10).isEmpty());
+    }
+}
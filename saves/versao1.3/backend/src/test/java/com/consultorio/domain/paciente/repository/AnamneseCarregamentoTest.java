@@ -0,0 +1,81 @@
+package com.consultorio.domain.paciente.repository;
+
+import com.consultorio.FixturesTeste;
+import com.consultorio.TesteIntegracao;
+import com.consultorio.domain.paciente.entity.Anamnese;
+import com.consultorio.domain.paciente.entity.Paciente;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@TesteIntegracao
+class AnamneseCarregamentoTest {
+
+    private static final int PACIENTES = 25;
+
+    // Pacientes + anamneses (grafo Paciente.anamnese) e um subselect por lista da anamnese
+    private static final int CONSULTAS_ESPERADAS = 4;
+
+    @Autowired
+    private PacienteRepository repository;
+
+    @Autowired
+    private FixturesTeste fixtures;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private final List<Long> ids = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        for (int i = 0; i < PACIENTES; i++) {
+            Paciente paciente = fixtures.salvar(Paciente.builder()
+                    .nome("Paciente Anamnese " + i)
+                    .anamnese(Anamnese.builder()
+                            .doencasPreexistentes(new ArrayList<>(List.of("Asma")))
+                            .alergias(new ArrayList<>(List.of("Dipirona", "Látex")))
+                            .medicamentosEmUso(new ArrayList<>(List.of("Losartana")))
+                            .build())
+                    .build());
+            ids.add(paciente.getId());
+        }
+    }
+
+    @Test
+    void carregaListasDaAnamneseEmNumeroConstanteDeConsultas() {
+        Statistics estatisticas = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        TransactionTemplate leitura = new TransactionTemplate(transactionManager);
+        leitura.setReadOnly(true);
+
+        leitura.executeWithoutResult(status -> {
+            estatisticas.clear();
+
+            List<Paciente> pacientes = repository.buscarComAnamnese(ids);
+            int itens = 0;
+            for (Paciente paciente : pacientes) {
+                Anamnese anamnese = paciente.getAnamnese();
+                itens += anamnese.getDoencasPreexistentes().size()
+                        + anamnese.getAlergias().size()
+                        + anamnese.getMedicamentosEmUso().size();
+            }
+
+            assertEquals(PACIENTES, pacientes.size());
+            assertEquals(PACIENTES * 4, itens);
+            assertEquals(CONSULTAS_ESPERADAS, estatisticas.getPrepareStatementCount());
+        });
+    }
+}
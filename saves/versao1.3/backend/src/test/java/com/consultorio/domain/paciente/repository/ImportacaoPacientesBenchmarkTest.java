@@ -0,0 +1,148 @@
+package com.consultorio.domain.paciente.repository;
+
+import com.consultorio.TesteIntegracao;
+import com.consultorio.domain.paciente.Enums.Dente;
+import com.consultorio.domain.paciente.Enums.StatusPaciente;
+import com.consultorio.domain.paciente.entity.Paciente;
+import com.consultorio.domain.paciente.entity.PlanoTratamento;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Session;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// Importação de pacientes com planos de tratamento, um insert por ida ao banco (o que IDENTITY impunha)
+// contra batches de hibernate.jdbc.batch_size com ids de sequência pooled-lo.
+// Executar com: mvn test -Dtest=ImportacaoPacientesBenchmarkTest -Dbenchmark=true
+@Slf4j
+@Tag("benchmark")
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+@TesteIntegracao
+class ImportacaoPacientesBenchmarkTest {
+
+    private static final int TOTAL_PACIENTES = 5_000;
+    private static final int PLANOS_POR_PACIENTE = 4;
+    private static final int TAMANHO_LOTE = 500;
+    private static final int RODADAS = 3;
+    private static final String PREFIXO = "IMPORT-";
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate escrita;
+
+    @BeforeEach
+    void setUp() {
+        escrita = new TransactionTemplate(transactionManager);
+    }
+
+    @AfterEach
+    void tearDown() {
+        remover();
+    }
+
+    @Test
+    void insertsEmBatchImportamMaisLinhasPorSegundo() {
+        Medicao semBatch = medir(1);
+        Medicao comBatch = medir(null);
+
+        log.info("Um insert por vez - melhor tempo: {} ms, {} linhas/s", semBatch.milissegundos(), semBatch.linhasPorSegundo());
+        log.info("Inserts em batch  - melhor tempo: {} ms, {} linhas/s", comBatch.milissegundos(), comBatch.linhasPorSegundo());
+
+        assertEquals(semBatch.linhas(), comBatch.linhas());
+        assertTrue(comBatch.nanos() < semBatch.nanos());
+    }
+
+    // Melhor tempo entre as rodadas; tamanhoBatch nulo mantém o hibernate.jdbc.batch_size configurado
+    private Medicao medir(Integer tamanhoBatch) {
+        long melhorTempo = Long.MAX_VALUE;
+        long linhas = 0;
+
+        for (int rodada = 0; rodada < RODADAS; rodada++) {
+            long inicio = System.nanoTime();
+            escrita.executeWithoutResult(status -> importar(tamanhoBatch));
+            melhorTempo = Math.min(melhorTempo, System.nanoTime() - inicio);
+
+            linhas = contarLinhas();
+            remover();
+        }
+
+        return new Medicao(linhas, melhorTempo);
+    }
+
+    private void importar(Integer tamanhoBatch) {
+        Session session = entityManager.unwrap(Session.class);
+        session.setJdbcBatchSize(tamanhoBatch);
+
+        Dente[] dentes = Dente.values();
+        for (int i = 0; i < TOTAL_PACIENTES; i++) {
+            Paciente paciente = Paciente.builder()
+                    .nome(PREFIXO + i)
+                    .dataNascimento(LocalDate.of(1980, 1, 1).plusDays(i % 10_000))
+                    .telefone("(11) 99999-0000")
+                    .status(StatusPaciente.ATIVO)
+                    .build();
+            entityManager.persist(paciente);
+
+            for (int p = 0; p < PLANOS_POR_PACIENTE; p++) {
+                entityManager.persist(PlanoTratamento.builder()
+                        .paciente(paciente)
+                        .dente(dentes[(i + p) % dentes.length])
+                        .procedimento("Importado " + p)
+                        .valor(new BigDecimal("200.00"))
+                        .valorTotal(new BigDecimal("200.00"))
+                        .build());
+            }
+
+            if ((i + 1) % TAMANHO_LOTE == 0) {
+                entityManager.flush();
+                entityManager.clear();
+            }
+        }
+    }
+
+    private long contarLinhas() {
+        Long pacientes = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM pacientes WHERE nome LIKE ?", Long.class, PREFIXO + "%");
+        Long planos = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM plano_tratamento pt JOIN pacientes p ON p.id = pt.paciente_id " +
+                        "WHERE p.nome LIKE ?", Long.class, PREFIXO + "%");
+        return pacientes + planos;
+    }
+
+    private void remover() {
+        jdbcTemplate.update("DELETE FROM plano_tratamento WHERE paciente_id IN " +
+                "(SELECT id FROM pacientes WHERE nome LIKE ?)", PREFIXO + "%");
+        jdbcTemplate.update("DELETE FROM pacientes WHERE nome LIKE ?", PREFIXO + "%");
+    }
+
+    private record Medicao(long linhas, long nanos) {
+
+        long milissegundos() {
+            return nanos / 1_000_000;
+        }
+
+        long linhasPorSegundo() {
+            return linhas * 1_000_000_000L / nanos;
+        }
+    }
+}
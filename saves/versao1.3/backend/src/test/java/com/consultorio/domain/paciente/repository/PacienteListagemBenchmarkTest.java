@@ -0,0 +1,148 @@
+package com.consultorio.domain.paciente.repository;
+
+import com.consultorio.TesteIntegracao;
+import com.consultorio.domain.paciente.DTOs.PacienteListDTO;
+import com.consultorio.domain.paciente.entity.Paciente;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.lang.management.ManagementFactory;
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// Compara a listagem por entidade com a projeção PacienteListDTO sobre 100 mil pacientes.
+// Executar com: mvn test -Dtest=PacienteListagemBenchmarkTest -Dbenchmark=true
+@Slf4j
+@Tag("benchmark")
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+@TesteIntegracao
+class PacienteListagemBenchmarkTest {
+
+    private static final int TOTAL_PACIENTES = 100_000;
+    private static final int TAMANHO_LOTE = 1_000;
+    private static final int RODADAS = 5;
+    private static final String PREFIXO = "BENCH-";
+
+    @Autowired
+    private PacienteRepository repository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate leitura;
+
+    @BeforeEach
+    void setUp() {
+        leitura = new TransactionTemplate(transactionManager);
+        leitura.setReadOnly(true);
+
+        String observacoes = "x".repeat(1000);
+        for (int inicio = 0; inicio < TOTAL_PACIENTES; inicio += TAMANHO_LOTE) {
+            List<Object[]> lote = new ArrayList<>();
+            for (int i = inicio; i < inicio + TAMANHO_LOTE; i++) {
+                lote.add(new Object[]{
+                        PREFIXO + i, "bench" + i + "@exemplo.com", "(11) 99999-0000",
+                        Date.valueOf(LocalDate.of(1980, 1, 1).plusDays(i % 10_000)),
+                        "Rua de Teste", "100", "Centro", "São Paulo", "SP", "01000-000",
+                        "Contato " + i, "(11) 98888-0000", "Responsável " + i, observacoes});
+            }
+            jdbcTemplate.batchUpdate(
+                    "INSERT INTO pacientes (id, nome, email, telefone, data_nascimento, " +
+                            "endereco_logradouro, endereco_numero, endereco_bairro, endereco_cidade, endereco_estado, endereco_cep, " +
+                            "contato_emergencia_nome, contato_emergencia_telefone, responsavel_nome, observacoes_gerais, " +
+                            "status, data_cadastro, data_atualizacao) " +
+                            "VALUES (nextval('pacientes_seq'), ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, 'ATIVO', now(), now())",
+                    lote);
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM pacientes WHERE nome LIKE ?", PREFIXO + "%");
+    }
+
+    @Test
+    void projecaoLeEAlocaMenosQueEntidade() {
+        Long bytesLinhaCompleta = jdbcTemplate.queryForObject(
+                "SELECT SUM(pg_column_size(p.*)) FROM pacientes p WHERE p.nome LIKE ?", Long.class, PREFIXO + "%");
+        Long bytesLinhaProjetada = jdbcTemplate.queryForObject(
+                "SELECT SUM(pg_column_size(ROW(p.id, p.nome, p.telefone, p.email, p.data_nascimento, p.status))) " +
+                        "FROM pacientes p WHERE p.nome LIKE ?", Long.class, PREFIXO + "%");
+
+        Medicao entidade = medir(() -> repository.findAll(Sort.by(Sort.Direction.DESC, "dataCadastro")).stream()
+                .map(this::toListDTO)
+                .toList());
+        Medicao projecao = medir(() -> repository.listarResumos());
+
+        log.info("Bytes das linhas lidas - entidade: {}, projeção: {}", bytesLinhaCompleta, bytesLinhaProjetada);
+        log.info("Entidade - melhor tempo: {} ms, alocação: {} MB", entidade.milissegundos(), entidade.megabytes());
+        log.info("Projeção - melhor tempo: {} ms, alocação: {} MB", projecao.milissegundos(), projecao.megabytes());
+
+        assertEquals(entidade.registros(), projecao.registros());
+        assertTrue(bytesLinhaProjetada < bytesLinhaCompleta);
+        assertTrue(projecao.bytesAlocados() < entidade.bytesAlocados());
+    }
+
+    // Melhor tempo e menor alocação entre as rodadas, cada uma em sua própria transação somente leitura
+    private Medicao medir(Supplier<List<PacienteListDTO>> consulta) {
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+
+        long melhorTempo = Long.MAX_VALUE;
+        long menorAlocacao = Long.MAX_VALUE;
+        int registros = 0;
+
+        for (int rodada = 0; rodada < RODADAS; rodada++) {
+            long alocadoAntes = threads.getThreadAllocatedBytes(threadId);
+            long inicio = System.nanoTime();
+
+            List<PacienteListDTO> resultado = leitura.execute(status -> consulta.get());
+
+            melhorTempo = Math.min(melhorTempo, System.nanoTime() - inicio);
+            menorAlocacao = Math.min(menorAlocacao, threads.getThreadAllocatedBytes(threadId) - alocadoAntes);
+            registros = resultado.size();
+        }
+
+        return new Medicao(registros, melhorTempo, menorAlocacao);
+    }
+
+    private PacienteListDTO toListDTO(Paciente paciente) {
+        return PacienteListDTO.builder()
+                .id(paciente.getId())
+                .nome(paciente.getNome())
+                .telefone(paciente.getTelefone())
+                .email(paciente.getEmail())
+                .dataNascimento(paciente.getDataNascimento())
+                .status(paciente.getStatus())
+                .build();
+    }
+
+    private record Medicao(int registros, long nanos, long bytesAlocados) {
+
+        long milissegundos() {
+            return nanos / 1_000_000;
+        }
+
+        long megabytes() {
+            return bytesAlocados / (1024 * 1024);
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package com.consultorio.domain.paciente.repository;
+
+import com.consultorio.FixturesTeste;
+import com.consultorio.TesteIntegracao;
+import com.consultorio.domain.dentista.Dentista;
+import com.consultorio.domain.paciente.DTOs.OrcamentoAbertoDentistaMesDTO;
+import com.consultorio.domain.paciente.DTOs.PlanoTratamentoTotalDenteDTO;
+import com.consultorio.domain.paciente.DTOs.PlanoTratamentoTotalStatusDTO;
+import com.consultorio.domain.paciente.Enums.Dente;
+import com.consultorio.domain.paciente.Enums.StatusPlanoTratamento;
+import com.consultorio.domain.paciente.entity.Paciente;
+import com.consultorio.domain.paciente.entity.PlanoTratamento;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@TesteIntegracao
+class PlanoTratamentoAgregacaoTest {
+
+    @Autowired
+    private PlanoTratamentoRepository repository;
+
+    @Autowired
+    private FixturesTeste fixtures;
+
+    private Paciente paciente;
+    private Dentista dentista;
+
+    @BeforeEach
+    void setUp() {
+        paciente = fixtures.paciente("Paciente Agregação");
+        dentista = fixtures.dentista("Dentista Agregação");
+
+        salvar(Dente.DENTE_11, "Restauração", "100.00", StatusPlanoTratamento.ATIVO);
+        salvar(Dente.DENTE_11, "Canal", "250.00", StatusPlanoTratamento.CONCLUIDO);
+        salvar(Dente.DENTE_21, "Restauração", "120.00", StatusPlanoTratamento.ORCAMENTO);
+        salvar(Dente.DENTE_36, "Restauração", "80.00", StatusPlanoTratamento.EM_APROVACAO);
+        salvar(Dente.DENTE_36, "Extração", "60.00", StatusPlanoTratamento.CANCELADO);
+    }
+
+    @Test
+    void totalizaPorStatusEPorDenteNoBanco() {
+        Map<StatusPlanoTratamento, PlanoTratamentoTotalStatusDTO> porStatus = repository
+                .totalizarPorStatus(paciente.getId()).stream()
+                .collect(Collectors.toMap(PlanoTratamentoTotalStatusDTO::status, total -> total));
+        Map<Dente, PlanoTratamentoTotalDenteDTO> porDente = repository
+                .totalizarPorDente(paciente.getId()).stream()
+                .collect(Collectors.toMap(PlanoTratamentoTotalDenteDTO::dente, total -> total));
+
+        assertEquals(5, porStatus.size());
+        assertEquals(1L, porStatus.get(StatusPlanoTratamento.ATIVO).quantidade());
+        assertEquals(new BigDecimal("250.00"), porStatus.get(StatusPlanoTratamento.CONCLUIDO).valorTotal());
+
+        assertEquals(3, porDente.size());
+        assertEquals(2L, porDente.get(Dente.DENTE_11).quantidade());
+        assertEquals(new BigDecimal("350.00"), porDente.get(Dente.DENTE_11).valorTotal());
+        assertEquals(new BigDecimal("140.00"), porDente.get(Dente.DENTE_36).valorTotal());
+
+        assertEquals(List.of("Restauração"),
+                repository.findProcedimentosMaisComuns(paciente.getId(), PageRequest.of(0, 1)));
+    }
+
+    @Test
+    void totalizaOrcamentosAbertosPorDentistaEMes() {
+        YearMonth mes = YearMonth.now();
+        LocalDateTime inicio = mes.atDay(1).atStartOfDay();
+        LocalDateTime fim = mes.plusMonths(1).atDay(1).atStartOfDay();
+
+        OrcamentoAbertoDentistaMesDTO total = repository.totalizarOrcamentosAbertosPorDentistaEMes(
+                        List.of(StatusPlanoTratamento.getStatusOrcamentoAberto()), inicio, fim).stream()
+                .filter(linha -> dentista.getId().equals(linha.dentistaId()))
+                .findFirst()
+                .orElseThrow();
+
+        assertEquals("Dentista Agregação", total.dentistaNome());
+        assertEquals(mes.getYear(), total.ano());
+        assertEquals(mes.getMonthValue(), total.mes());
+        assertEquals(2L, total.quantidade());
+        assertEquals(new BigDecimal("200.00"), total.valorTotal());
+    }
+
+    private void salvar(Dente dente, String procedimento, String valor, StatusPlanoTratamento status) {
+        fixtures.salvar(PlanoTratamento.builder()
+                .paciente(paciente)
+                .dentistaId(dentista.getId())
+                .dente(dente)
+                .procedimento(procedimento)
+                .valor(new BigDecimal(valor))
+                .valorTotal(new BigDecimal(valor))
+                .status(status)
+                .build());
+    }
+}
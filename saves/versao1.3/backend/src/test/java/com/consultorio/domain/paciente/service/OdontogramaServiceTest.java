@@ -0,0 +1,85 @@
+package com.consultorio.domain.paciente.service;
+
+import com.consultorio.FixturesTeste;
+import com.consultorio.TesteIntegracao;
+import com.consultorio.domain.paciente.DTOs.OdontogramaDTO;
+import com.consultorio.domain.paciente.DTOs.PlanoTratamentoCreateDTO;
+import com.consultorio.domain.paciente.DTOs.PlanoTratamentoLoteDTO;
+import com.consultorio.domain.paciente.DTOs.PlanoTratamentoResponseDTO;
+import com.consultorio.domain.paciente.Enums.Dente;
+import com.consultorio.domain.paciente.Enums.StatusPlanoTratamento;
+import com.consultorio.domain.paciente.entity.Paciente;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+@TesteIntegracao
+class OdontogramaServiceTest {
+
+    @Autowired
+    private OdontogramaService odontogramaService;
+
+    @Autowired
+    private PlanoTratamentoService planoTratamentoService;
+
+    @Autowired
+    private FixturesTeste fixtures;
+
+    private Paciente paciente;
+
+    @BeforeEach
+    void setUp() {
+        paciente = fixtures.paciente("Paciente Odontograma");
+    }
+
+    @Test
+    void estadoTemTamanhoFixoEAcompanhaMudancasDeStatus() {
+        List<PlanoTratamentoResponseDTO> planos = planoTratamentoService.criarEmLote(paciente.getId(),
+                lote(Dente.DENTE_11, Dente.DENTE_36));
+
+        OdontogramaDTO inicial = odontogramaService.obter(paciente.getId());
+        assertEquals(Dente.values().length, inicial.estados().size());
+        assertEquals(StatusPlanoTratamento.ORCAMENTO, estado(inicial, Dente.DENTE_11));
+        assertNull(estado(inicial, Dente.DENTE_21));
+
+        // Atualizações incrementais sobre o estado em cache
+        planoTratamentoService.ativarPlano(planos.get(0).id());
+        planoTratamentoService.cancelarPlano(planos.get(1).id(), "Paciente desistiu");
+
+        OdontogramaDTO atualizado = odontogramaService.obter(paciente.getId());
+        assertEquals(StatusPlanoTratamento.ATIVO, estado(atualizado, Dente.DENTE_11));
+        assertEquals(StatusPlanoTratamento.CANCELADO, estado(atualizado, Dente.DENTE_36));
+
+        // Uma criação invalida o paciente e a recarga chega ao mesmo estado
+        planoTratamentoService.criarEmLote(paciente.getId(), lote(Dente.DENTE_21));
+
+        OdontogramaDTO recarregado = odontogramaService.obter(paciente.getId());
+        assertEquals(StatusPlanoTratamento.ATIVO, estado(recarregado, Dente.DENTE_11));
+        assertEquals(StatusPlanoTratamento.CANCELADO, estado(recarregado, Dente.DENTE_36));
+        assertEquals(StatusPlanoTratamento.ORCAMENTO, estado(recarregado, Dente.DENTE_21));
+    }
+
+    private static StatusPlanoTratamento estado(OdontogramaDTO odontograma, Dente dente) {
+        return odontograma.estados().get(dente.ordinal());
+    }
+
+    private PlanoTratamentoLoteDTO lote(Dente... dentes) {
+        return PlanoTratamentoLoteDTO.builder()
+                .planos(List.of(dentes).stream()
+                        .map(dente -> PlanoTratamentoCreateDTO.builder()
+                                .pacienteId(paciente.getId())
+                                .dente(dente)
+                                .procedimento("Avaliação")
+                                .valor(new BigDecimal("90.00"))
+                                .valorTotal(new BigDecimal("90.00"))
+                                .build())
+                        .toList())
+                .build();
+    }
+}
@@ -0,0 +1,139 @@
+package com.consultorio.domain.paciente.service;
+
+import com.consultorio.FixturesTeste;
+import com.consultorio.TesteIntegracao;
+import com.consultorio.domain.paciente.DTOs.PlanoTratamentoCreateDTO;
+import com.consultorio.domain.paciente.DTOs.PlanoTratamentoLoteDTO;
+import com.consultorio.domain.paciente.DTOs.PlanoTratamentoPacienteDTO;
+import com.consultorio.domain.paciente.DTOs.PlanoTratamentoResponseDTO;
+import com.consultorio.domain.paciente.DTOs.PlanoTratamentoUpdateDTO;
+import com.consultorio.domain.paciente.Enums.Dente;
+import com.consultorio.domain.paciente.Enums.StatusPlanoTratamento;
+import com.consultorio.domain.paciente.entity.Paciente;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// Statements por requisição nas rotas de plano de tratamento. Antes da unificação cada resposta
+// lia o nome pelo proxy de Paciente: um SELECT de paciente por plano listado além da consulta dos planos
+@Slf4j
+@TesteIntegracao
+class PlanoTratamentoConsultasTest {
+
+    private static final int PACIENTES = 5;
+
+    private static final List<Dente> DENTES = Arrays.stream(Dente.values())
+            .filter(dente -> dente.name().matches("DENTE_1\\d"))
+            .toList();
+
+    @Autowired
+    private PlanoTratamentoService service;
+
+    @Autowired
+    private FixturesTeste fixtures;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private final List<Long> pacientes = new ArrayList<>();
+    private Statistics estatisticas;
+
+    @BeforeEach
+    void setUp() {
+        for (int i = 0; i < PACIENTES; i++) {
+            Paciente paciente = fixtures.paciente("Paciente Consultas " + i);
+            pacientes.add(paciente.getId());
+            service.criarEmLote(paciente.getId(), lote(paciente.getId()));
+        }
+        estatisticas = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    void leiturasUsamUmaConsultaIndependenteDoNumeroDePlanos() {
+        Long pacienteId = pacientes.get(0);
+
+        List<PlanoTratamentoResponseDTO> planos = medir("listarPorPaciente", 1,
+                () -> service.listarPorPaciente(pacienteId));
+        assertEquals(DENTES.size(), planos.size());
+        assertTrue(planos.stream().allMatch(plano -> "Paciente Consultas 0".equals(plano.pacienteNome())));
+
+        PlanoTratamentoResponseDTO plano = medir("buscarPorId", 1, () -> service.buscarPorId(planos.get(0).id()));
+        assertEquals(pacienteId, plano.pacienteId());
+
+        List<PlanoTratamentoResponseDTO> orcamentos = medir("listarPorStatus", 1,
+                () -> service.listarPorStatus(StatusPlanoTratamento.ORCAMENTO));
+        assertTrue(orcamentos.size() >= PACIENTES * DENTES.size());
+
+        PlanoTratamentoPacienteDTO resumo = medir("obterResumoPorPaciente", 2,
+                () -> service.obterResumoPorPaciente(pacienteId));
+        assertEquals(new BigDecimal("1500.00").multiply(BigDecimal.valueOf(DENTES.size())), resumo.valorTotalGeral());
+    }
+
+    @Test
+    void escritasNaoCarregamPaciente() {
+        Long pacienteId = pacientes.get(0);
+
+        estatisticas.clear();
+        PlanoTratamentoResponseDTO criado = service.criar(pacienteId, item(pacienteId, Dente.DENTE_21));
+        // Nome do paciente e insert; a sequência só é consultada quando o bloco de ids se esgota
+        assertTrue(estatisticas.getPrepareStatementCount() <= 3,
+                "statements preparados: " + estatisticas.getPrepareStatementCount());
+        assertEquals(0, cargasDePaciente());
+        assertEquals("Paciente Consultas 0", criado.pacienteNome());
+        log.info("criar: {} statements", estatisticas.getPrepareStatementCount());
+
+        // Plano, nome do paciente e update
+        PlanoTratamentoResponseDTO atualizado = medir("atualizar", 3, () -> service.atualizar(criado.id(),
+                PlanoTratamentoUpdateDTO.builder()
+                        .dente(Dente.DENTE_21)
+                        .procedimento("Restauração em resina")
+                        .build()));
+        assertEquals("Restauração em resina", atualizado.procedimento());
+        assertEquals(criado.valorTotal(), atualizado.valorTotal());
+
+        medir("ativarPlano", 3, () -> service.ativarPlano(criado.id()));
+    }
+
+    private <T> T medir(String operacao, int statementsEsperados, Supplier<T> chamada) {
+        estatisticas.clear();
+        T resultado = chamada.get();
+
+        log.info("{}: {} statements", operacao, estatisticas.getPrepareStatementCount());
+        assertEquals(statementsEsperados, estatisticas.getPrepareStatementCount(), operacao);
+        assertEquals(0, cargasDePaciente(), operacao);
+        return resultado;
+    }
+
+    private long cargasDePaciente() {
+        return estatisticas.getEntityStatistics(Paciente.class.getName()).getLoadCount();
+    }
+
+    private PlanoTratamentoLoteDTO lote(Long pacienteId) {
+        return PlanoTratamentoLoteDTO.builder()
+                .planos(DENTES.stream().map(dente -> item(pacienteId, dente)).toList())
+                .build();
+    }
+
+    private PlanoTratamentoCreateDTO item(Long pacienteId, Dente dente) {
+        return PlanoTratamentoCreateDTO.builder()
+                .pacienteId(pacienteId)
+                .dente(dente)
+                .procedimento("Restauração")
+                .valor(new BigDecimal("1500.00"))
+                .valorTotal(new BigDecimal("1500.00"))
+                .build();
+    }
+}
@@ -0,0 +1,100 @@
+package com.consultorio.domain.paciente.service;
+
+import com.consultorio.FixturesTeste;
+import com.consultorio.TesteIntegracao;
+import com.consultorio.domain.paciente.DTOs.PlanoTratamentoCreateDTO;
+import com.consultorio.domain.paciente.DTOs.PlanoTratamentoLoteDTO;
+import com.consultorio.domain.paciente.DTOs.PlanoTratamentoResponseDTO;
+import com.consultorio.domain.paciente.Enums.Dente;
+import com.consultorio.domain.paciente.entity.Paciente;
+import com.consultorio.domain.paciente.repository.PlanoTratamentoRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@TesteIntegracao
+class PlanoTratamentoLoteTest {
+
+    // Dentes permanentes do odontograma: 11 a 48
+    private static final List<Dente> DENTES = Arrays.stream(Dente.values())
+            .filter(dente -> dente.name().matches("DENTE_[1-4]\\d"))
+            .toList();
+
+    @Autowired
+    private PlanoTratamentoService service;
+
+    @Autowired
+    private FixturesTeste fixtures;
+
+    @Autowired
+    private PlanoTratamentoRepository planoTratamentoRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Paciente paciente;
+
+    @BeforeEach
+    void setUp() {
+        paciente = fixtures.paciente("Paciente Lote");
+    }
+
+    @Test
+    void criaTodosOsDentesComInsertsEmBatch() {
+        Statistics estatisticas = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        estatisticas.clear();
+
+        List<PlanoTratamentoResponseDTO> criados = service.criarEmLote(paciente.getId(), lote(DENTES));
+
+        assertEquals(DENTES.size(), criados.size());
+        assertTrue(criados.stream().allMatch(plano -> plano.id() != null && "Paciente Lote".equals(plano.pacienteNome())));
+        assertEquals(DENTES.size(), estatisticas.getEntityInsertCount());
+        // Nome do paciente, validação, sequência e um único statement de insert para todo o lote
+        assertTrue(estatisticas.getPrepareStatementCount() < 10,
+                "statements preparados: " + estatisticas.getPrepareStatementCount());
+    }
+
+    @Test
+    void rejeitaProcedimentoRepetidoNoLote() {
+        PlanoTratamentoLoteDTO lote = lote(List.of(Dente.DENTE_11, Dente.DENTE_11));
+
+        assertThrows(IllegalArgumentException.class, () -> service.criarEmLote(paciente.getId(), lote));
+        assertTrue(planoTratamentoRepository.findByPacienteId(paciente.getId()).isEmpty());
+    }
+
+    @Test
+    void rejeitaDenteComPlanoAtivo() {
+        PlanoTratamentoResponseDTO existente = service.criarEmLote(paciente.getId(), lote(List.of(Dente.DENTE_21))).get(0);
+        service.ativarPlano(existente.id());
+
+        PlanoTratamentoLoteDTO lote = lote(List.of(Dente.DENTE_11, Dente.DENTE_21));
+
+        assertThrows(IllegalStateException.class, () -> service.criarEmLote(paciente.getId(), lote));
+        assertEquals(1, planoTratamentoRepository.findByPacienteId(paciente.getId()).size());
+    }
+
+    private PlanoTratamentoLoteDTO lote(List<Dente> dentes) {
+        return PlanoTratamentoLoteDTO.builder()
+                .planos(dentes.stream()
+                        .map(dente -> PlanoTratamentoCreateDTO.builder()
+                                .pacienteId(paciente.getId())
+                                .dente(dente)
+                                .procedimento("Restauração")
+                                .valor(new BigDecimal("150.00"))
+                                .valorTotal(new BigDecimal("150.00"))
+                                .build())
+                        .toList())
+                .build();
+    }
+}
@@ -0,0 +1,47 @@
+package com.consultorio.domain.paciente.valor;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class DinheiroTest {
+
+    @Test
+    void converteEntreReaisECentavos() {
+        assertEquals(12_345L, Dinheiro.centavos(new BigDecimal("123.45")));
+        assertEquals(12_300L, Dinheiro.centavos(new BigDecimal("123")));
+        assertEquals(0L, Dinheiro.centavos(null));
+        assertEquals(new BigDecimal("123.45"), Dinheiro.reais(12_345L));
+    }
+
+    @Test
+    void somaSemDerivaDeArredondamento() {
+        List<BigDecimal> valores = Collections.nCopies(1_000, new BigDecimal("0.10"));
+
+        double comDouble = 0.0;
+        for (BigDecimal valor : valores) {
+            comDouble += valor.doubleValue();
+        }
+
+        assertNotEquals(100.0, comDouble);
+        assertEquals(new BigDecimal("100.00"), Dinheiro.somar(valores, Function.identity()));
+    }
+
+    @Test
+    void ignoraValoresNulosEDetectaEstouro() {
+        assertEquals(new BigDecimal("1.50"),
+                Dinheiro.somar(Arrays.asList(new BigDecimal("1.50"), null), Function.identity()));
+
+        BigDecimal enorme = Dinheiro.reais(Long.MAX_VALUE);
+        assertThrows(ArithmeticException.class,
+                () -> Dinheiro.somar(List.of(enorme, enorme), Function.identity()));
+    }
+}
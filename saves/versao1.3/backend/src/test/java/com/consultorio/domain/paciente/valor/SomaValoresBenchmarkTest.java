@@ -0,0 +1,92 @@
+package com.consultorio.domain.paciente.valor;
+
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.lang.management.ManagementFactory;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+// Compara a soma antiga (Double com mapToDouble) com BigDecimal.add e com Dinheiro.somar
+// sobre 1 milhão de valores de planos. Executar com:
+// mvn test -Dtest=SomaValoresBenchmarkTest -Dbenchmark=true
+@Slf4j
+@Tag("benchmark")
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class SomaValoresBenchmarkTest {
+
+    private static final int TOTAL_VALORES = 1_000_000;
+    private static final int RODADAS = 10;
+
+    @Test
+    void somaEmCentavosEExataEAlocaMenosQueBigDecimal() {
+        Random random = new Random(42);
+        List<Double> antigos = new ArrayList<>(TOTAL_VALORES);
+        List<BigDecimal> valores = new ArrayList<>(TOTAL_VALORES);
+        long centavosEsperados = 0;
+
+        for (int i = 0; i < TOTAL_VALORES; i++) {
+            long centavos = 1 + random.nextInt(500_000);
+            centavosEsperados += centavos;
+            antigos.add(centavos / 100.0);
+            valores.add(Dinheiro.reais(centavos));
+        }
+        BigDecimal esperado = Dinheiro.reais(centavosEsperados);
+
+        Medicao<Double> comDouble = medir(() -> antigos.stream().mapToDouble(Double::doubleValue).sum());
+        Medicao<BigDecimal> comBigDecimal = medir(() -> valores.stream().reduce(BigDecimal.ZERO, BigDecimal::add));
+        Medicao<BigDecimal> emCentavos = medir(() -> Dinheiro.somar(valores, Function.identity()));
+
+        log.info("Double       - melhor tempo: {} ms, alocação: {} KB, diferença: {}",
+                comDouble.milissegundos(), comDouble.kilobytes(),
+                new BigDecimal(comDouble.resultado()).subtract(esperado));
+        log.info("BigDecimal   - melhor tempo: {} ms, alocação: {} KB",
+                comBigDecimal.milissegundos(), comBigDecimal.kilobytes());
+        log.info("Centavos     - melhor tempo: {} ms, alocação: {} KB",
+                emCentavos.milissegundos(), emCentavos.kilobytes());
+
+        assertEquals(0, esperado.compareTo(comBigDecimal.resultado()));
+        assertEquals(esperado, emCentavos.resultado());
+    }
+
+    // Melhor tempo e menor alocação entre as rodadas, depois de aquecer o JIT na primeira
+    private <T> Medicao<T> medir(Supplier<T> soma) {
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+
+        long melhorTempo = Long.MAX_VALUE;
+        long menorAlocacao = Long.MAX_VALUE;
+        T resultado = soma.get();
+
+        for (int rodada = 0; rodada < RODADAS; rodada++) {
+            long alocadoAntes = threads.getThreadAllocatedBytes(threadId);
+            long inicio = System.nanoTime();
+
+            resultado = soma.get();
+
+            melhorTempo = Math.min(melhorTempo, System.nanoTime() - inicio);
+            menorAlocacao = Math.min(menorAlocacao, threads.getThreadAllocatedBytes(threadId) - alocadoAntes);
+        }
+
+        return new Medicao<>(resultado, melhorTempo, menorAlocacao);
+    }
+
+    private record Medicao<T>(T resultado, long nanos, long bytesAlocados) {
+
+        long milissegundos() {
+            return nanos / 1_000_000;
+        }
+
+        long kilobytes() {
+            return bytesAlocados / 1024;
+        }
+    }
+}
@@ -0,0 +1,200 @@
+-- Banco como o antigo ddl-auto=update o deixava antes das migrações (entidades da versão anterior ao
+-- Flyway): IDs IDENTITY, valores em double precision e nenhuma das colunas e tabelas acrescentadas
+-- depois (data_hora_fim, busca de pacientes, jornada do dentista, dentista do plano).
+-- Os CHECK que o Hibernate gera para enums ficam de fora: nenhum valor de enum mudou desde então.
+
+-- ========== DENTISTAS ==========
+
+CREATE TABLE dentistas (
+    id            bigint GENERATED BY DEFAULT AS IDENTITY,
+    ativo         boolean,
+    cro           varchar(255),
+    email         varchar(255),
+    especialidade varchar(255),
+    nome          varchar(255),
+    telefone      varchar(255),
+    PRIMARY KEY (id),
+    CONSTRAINT ukq7tynbkbnjvo2ayqxe6ou7u9h UNIQUE (cro)
+);
+
+-- ========== PACIENTES E ANAMNESES ==========
+
+CREATE TABLE pacientes (
+    id                            bigint GENERATED BY DEFAULT AS IDENTITY,
+    anamnese_id                   bigint,
+    contato_emergencia_nome       varchar(100),
+    contato_emergencia_parentesco varchar(50),
+    contato_emergencia_telefone   varchar(20),
+    convenio                      varchar(100),
+    cpf                           varchar(14),
+    data_atualizacao              timestamp(6),
+    data_cadastro                 timestamp(6),
+    data_nascimento               date         NOT NULL,
+    email                         varchar(100),
+    endereco_bairro               varchar(100),
+    endereco_cep                  varchar(9),
+    endereco_cidade               varchar(100),
+    endereco_complemento          varchar(100),
+    endereco_estado               varchar(2),
+    endereco_logradouro           varchar(200),
+    endereco_numero               varchar(10),
+    estado_civil                  varchar(20),
+    indicado_por                  varchar(100),
+    nacionalidade                 varchar(50),
+    naturalidade                  varchar(50),
+    nome                          varchar(100) NOT NULL,
+    numero_carteirinha            varchar(50),
+    observacoes_gerais            varchar(1000),
+    orgao_expedidor               varchar(50),
+    profissao                     varchar(100),
+    prontuario                    varchar(20),
+    responsavel_cpf               varchar(14),
+    responsavel_cpf_conjuge       varchar(14),
+    responsavel_estado_civil      varchar(20),
+    responsavel_nome              varchar(100),
+    responsavel_nome_conjuge      varchar(100),
+    responsavel_orgao_expedidor   varchar(50),
+    responsavel_rg                varchar(20),
+    rg                            varchar(20),
+    sexo                          varchar(20),
+    status                        varchar(20),
+    telefone                      varchar(20),
+    PRIMARY KEY (id),
+    CONSTRAINT ukr1ul8yc2ypgl9xqqd3dbyg2xj UNIQUE (anamnese_id),
+    CONSTRAINT uk2u9ov2u3qdjkx8pr6p7ca1e4y UNIQUE (cpf),
+    CONSTRAINT ukhwdt0n0v3mxwaw9ukcqkbquyg UNIQUE (email)
+);
+
+CREATE TABLE anamneses (
+    id                      bigint GENERATED BY DEFAULT AS IDENTITY,
+    alteracao_oclusao       boolean,
+    consome_alcool          boolean       NOT NULL,
+    data_atualizacao        timestamp(6),
+    data_preenchimento      timestamp(6),
+    detalhes_cirurgias      varchar(255),
+    detalhes_oclusao        varchar(255),
+    face                    varchar(255),
+    ganglios                varchar(255),
+    gengivas                varchar(255),
+    glandulas_salivares     varchar(255),
+    labios                  varchar(255),
+    lingua                  varchar(255),
+    mucosa                  varchar(255),
+    observacoes             varchar(255),
+    palato                  varchar(255),
+    anos_fumando            integer,
+    cigarros_por_dia        integer,
+    diabetes                boolean       NOT NULL,
+    evolucao_doenca_atual   varchar(1000),
+    frequencia_alcool       varchar(255),
+    fumante                 boolean       NOT NULL,
+    hipertensao             boolean       NOT NULL,
+    historico_cirurgico     boolean       NOT NULL,
+    problemas_cardiacos     boolean       NOT NULL,
+    problemas_coagulacao    boolean       NOT NULL,
+    problemas_hepaticos     boolean       NOT NULL,
+    problemas_renais        boolean       NOT NULL,
+    problemas_respiratorios boolean       NOT NULL,
+    queixa_principal        varchar(500),
+    paciente_id             bigint,
+    PRIMARY KEY (id),
+    CONSTRAINT uk9c6kv8xm1l8yfbt2ju0pcyqvd UNIQUE (paciente_id)
+);
+
+CREATE TABLE paciente_alergias (
+    anamnese_id bigint NOT NULL,
+    alergia     varchar(255)
+);
+
+CREATE TABLE paciente_doencas_preexistentes (
+    anamnese_id bigint NOT NULL,
+    doenca      varchar(255)
+);
+
+CREATE TABLE paciente_medicamentos (
+    anamnese_id bigint NOT NULL,
+    medicamento varchar(255)
+);
+
+ALTER TABLE pacientes
+    ADD CONSTRAINT fk4r6cw3ssvh0cl0ghyb8kpj1oh FOREIGN KEY (anamnese_id) REFERENCES anamneses;
+
+ALTER TABLE anamneses
+    ADD CONSTRAINT fkb0lq1g7gy1kf4pn86y9ekq2ar FOREIGN KEY (paciente_id) REFERENCES pacientes;
+
+ALTER TABLE paciente_alergias
+    ADD CONSTRAINT fkm1s8nd2mjb7p6csd6qq0tqk5e FOREIGN KEY (anamnese_id) REFERENCES anamneses;
+
+ALTER TABLE paciente_doencas_preexistentes
+    ADD CONSTRAINT fkp6t4f9vn5n8s2cgrxjwl0ye3o FOREIGN KEY (anamnese_id) REFERENCES anamneses;
+
+ALTER TABLE paciente_medicamentos
+    ADD CONSTRAINT fk7x2h0ktq4m9c1ewq8pqj6ysdl FOREIGN KEY (anamnese_id) REFERENCES anamneses;
+
+-- ========== PLANOS DE TRATAMENTO ==========
+
+CREATE TABLE plano_tratamento (
+    id                  bigint GENERATED BY DEFAULT AS IDENTITY,
+    data_atualizacao    timestamp(6),
+    data_cancelamento   timestamp(6),
+    data_conclusao      timestamp(6),
+    data_criacao        timestamp(6),
+    data_inicio         timestamp(6),
+    dente               varchar(50)      NOT NULL,
+    motivo_cancelamento varchar(1000),
+    observacao          varchar(500),
+    procedimento        varchar(200)     NOT NULL,
+    status              varchar(50)      NOT NULL,
+    valor               float(53)        NOT NULL,
+    valor_total         float(53)        NOT NULL,
+    paciente_id         bigint           NOT NULL,
+    PRIMARY KEY (id)
+);
+
+ALTER TABLE plano_tratamento
+    ADD CONSTRAINT fkjw2a5n3qgx1r6ov0el8m9bd4c FOREIGN KEY (paciente_id) REFERENCES pacientes;
+
+-- ========== AGENDAMENTOS ==========
+
+CREATE TABLE agendamentos (
+    id            bigint GENERATED BY DEFAULT AS IDENTITY,
+    data_cadastro timestamp(6) NOT NULL,
+    data_hora     timestamp(6) NOT NULL,
+    dentista_id   bigint       NOT NULL,
+    dentista_nome varchar(255) NOT NULL,
+    email         varchar(255),
+    observacoes   TEXT,
+    paciente_id   bigint,
+    paciente_nome varchar(255) NOT NULL,
+    status        varchar(255) NOT NULL,
+    telefone      varchar(255),
+    PRIMARY KEY (id)
+);
+
+-- ========== DADOS ==========
+
+INSERT INTO dentistas (ativo, cro, nome) VALUES (true, 'CRO-LEGADO-1', 'Dentista Legado');
+
+INSERT INTO pacientes (nome, data_nascimento, status, data_cadastro)
+VALUES ('José Antônio Legado', DATE '1980-03-15', 'ATIVO', TIMESTAMP '2024-01-10 09:00:00');
+
+INSERT INTO anamneses (paciente_id, fumante, consome_alcool, historico_cirurgico, problemas_cardiacos,
+                       problemas_renais, problemas_hepaticos, problemas_respiratorios, diabetes,
+                       hipertensao, problemas_coagulacao)
+VALUES (1, false, false, false, false, false, false, false, false, false, false);
+
+UPDATE pacientes SET anamnese_id = 1 WHERE id = 1;
+
+INSERT INTO paciente_alergias (anamnese_id, alergia) VALUES (1, 'Dipirona');
+
+INSERT INTO plano_tratamento (paciente_id, dente, procedimento, valor, valor_total, status, data_criacao)
+VALUES (1, 'DENTE_11', 'Restauração', 150.555, 150.555, 'ORCAMENTO', TIMESTAMP '2024-01-10 09:30:00');
+
+INSERT INTO agendamentos (paciente_id, paciente_nome, dentista_id, dentista_nome, data_hora, status, data_cadastro)
+VALUES (1, 'José Antônio Legado', 1, 'Dentista Legado', TIMESTAMP '2024-02-05 09:00:00', 'CONCLUIDO',
+        TIMESTAMP '2024-01-10 09:40:00'),
+       (1, 'José Antônio Legado', 1, 'Dentista Legado', TIMESTAMP '2024-02-05 09:30:00', 'AGENDADO',
+        TIMESTAMP '2024-01-10 09:41:00'),
+       -- Encaixe já atendido, sobreposto aos dois anteriores: o antigo índice único só comparava o início
+       (NULL, 'Encaixe Legado', 1, 'Dentista Legado', TIMESTAMP '2024-02-05 09:15:00', 'CONCLUIDO',
+        TIMESTAMP '2024-01-11 14:00:00');